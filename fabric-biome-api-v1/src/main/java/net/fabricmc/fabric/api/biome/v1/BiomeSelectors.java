@@ -33,12 +33,26 @@ import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.SpawnSettings;
 import net.minecraft.world.dimension.DimensionOptions;
 
+import net.fabricmc.fabric.impl.biome.modification.IndexedBiomeSelector;
+
 /**
  * Provides several convenient biome selectors that can be used with {@link BiomeModifications}.
  *
+ * <p>Selectors that only depend on the key, tags or dimensions of a biome, as well as their combinations using
+ * {@link Predicate#and}, {@link Predicate#or} and {@link Predicate#negate}, are evaluated once for all biomes
+ * instead of once per biome and modifier. Prefer them over custom predicates where possible.
+ *
  * <p><b>Experimental feature</b>, may be removed or changed without further notice.
  */
 public final class BiomeSelectors {
+	private static final Predicate<BiomeSelectionContext> ALL = new IndexedBiomeSelector.ByKeyPredicate(key -> true);
+	private static final Predicate<BiomeSelectionContext> BUILT_IN = new IndexedBiomeSelector.ByKeyPredicate(key -> BuiltinRegistries.BIOME.containsId(key.getValue()));
+	private static final Predicate<BiomeSelectionContext> VANILLA = new IndexedBiomeSelector.ByKeyPredicate(key -> {
+		// In addition to the namespace, we also check that it doesn't come from a data pack.
+		return key.getValue().getNamespace().equals("minecraft")
+				&& BuiltinRegistries.BIOME.containsId(key.getValue());
+	});
+
 	private BiomeSelectors() {
 	}
 
@@ -46,25 +60,21 @@ public final class BiomeSelectors {
 	 * Matches all Biomes. Use a more specific selector if possible.
 	 */
 	public static Predicate<BiomeSelectionContext> all() {
-		return context -> true;
+		return ALL;
 	}
 
 	/**
 	 * Matches Biomes that have not been originally defined in a datapack, but that are defined in code.
 	 */
 	public static Predicate<BiomeSelectionContext> builtIn() {
-		return context -> BuiltinRegistries.BIOME.containsId(context.getBiomeKey().getValue());
+		return BUILT_IN;
 	}
 
 	/**
 	 * Returns a biome selector that will match all biomes from the minecraft namespace.
 	 */
 	public static Predicate<BiomeSelectionContext> vanilla() {
-		return context -> {
-			// In addition to the namespace, we also check that it doesn't come from a data pack.
-			return context.getBiomeKey().getValue().getNamespace().equals("minecraft")
-					&& BuiltinRegistries.BIOME.containsId(context.getBiomeKey().getValue());
-		};
+		return VANILLA;
 	}
 
 	/**
@@ -72,7 +82,7 @@ public final class BiomeSelectors {
 	 * assuming Vanilla's default biome source is used.
 	 */
 	public static Predicate<BiomeSelectionContext> foundInOverworld() {
-		return context -> context.canGenerateIn(DimensionOptions.OVERWORLD);
+		return new IndexedBiomeSelector.ByDimension(DimensionOptions.OVERWORLD);
 	}
 
 	/**
@@ -82,7 +92,7 @@ public final class BiomeSelectors {
 	 * <p>This selector will also match modded biomes that have been added to the nether using {@link NetherBiomes}.
 	 */
 	public static Predicate<BiomeSelectionContext> foundInTheNether() {
-		return context -> context.canGenerateIn(DimensionOptions.NETHER);
+		return new IndexedBiomeSelector.ByDimension(DimensionOptions.NETHER);
 	}
 
 	/**
@@ -90,7 +100,7 @@ public final class BiomeSelectors {
 	 * assuming Vanilla's default End biome source is used.
 	 */
 	public static Predicate<BiomeSelectionContext> foundInTheEnd() {
-		return context -> context.canGenerateIn(DimensionOptions.END);
+		return new IndexedBiomeSelector.ByDimension(DimensionOptions.END);
 	}
 
 	/**
@@ -99,7 +109,7 @@ public final class BiomeSelectors {
 	 * @see net.fabricmc.fabric.api.tag.TagFactory#BIOME
 	 */
 	public static Predicate<BiomeSelectionContext> tag(TagKey<Biome> tag) {
-		return context -> context.hasTag(tag);
+		return new IndexedBiomeSelector.ByTag(tag);
 	}
 
 	/**
@@ -117,7 +127,7 @@ public final class BiomeSelectors {
 	 * a certain feature should not spawn.
 	 */
 	public static Predicate<BiomeSelectionContext> excludeByKey(Collection<RegistryKey<Biome>> keys) {
-		return context -> !keys.contains(context.getBiomeKey());
+		return new IndexedBiomeSelector.ByKeys(ImmutableSet.copyOf(keys), true);
 	}
 
 	/**
@@ -135,7 +145,7 @@ public final class BiomeSelectors {
 	 * a certain feature should spawn exclusively.
 	 */
 	public static Predicate<BiomeSelectionContext> includeByKey(Collection<RegistryKey<Biome>> keys) {
-		return context -> keys.contains(context.getBiomeKey());
+		return new IndexedBiomeSelector.ByKeys(ImmutableSet.copyOf(keys), false);
 	}
 
 	/**
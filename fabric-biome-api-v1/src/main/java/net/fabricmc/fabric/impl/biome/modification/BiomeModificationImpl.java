@@ -17,28 +17,33 @@
 package net.fabricmc.fabric.impl.biome.modification;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.base.Suppliers;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
 import net.minecraft.util.registry.DynamicRegistryManager;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.util.registry.RegistryKey;
 import net.minecraft.world.biome.Biome;
-import net.minecraft.world.biome.source.BiomeSource;
-import net.minecraft.world.dimension.DimensionOptions;
 import net.minecraft.world.level.LevelProperties;
 
 import net.fabricmc.fabric.api.biome.v1.BiomeModificationContext;
@@ -49,6 +54,11 @@ import net.fabricmc.fabric.api.biome.v1.ModificationPhase;
 public class BiomeModificationImpl {
 	private static final Logger LOGGER = LoggerFactory.getLogger(BiomeModificationImpl.class);
 
+	/**
+	 * Modifies biomes in parallel on the worker executor. This is opt-in, since modifiers are not required to be thread-safe.
+	 */
+	private static final boolean PARALLEL = Boolean.getBoolean("fabric.biome.parallelModification");
+
 	private static final Comparator<ModifierRecord> MODIFIER_ORDER_COMPARATOR = Comparator.<ModifierRecord>comparingInt(r -> r.phase.ordinal()).thenComparingInt(r -> r.order).thenComparing(r -> r.id);
 
 	public static final BiomeModificationImpl INSTANCE = new BiomeModificationImpl();
@@ -126,57 +136,126 @@ public class BiomeModificationImpl {
 
 		List<ModifierRecord> sortedModifiers = getSortedModifiers();
 
+		// Evaluate the selectors that only depend on the identity of biomes once for all biomes, shared between equal selectors
+		Stopwatch selectorSw = Stopwatch.createStarted();
+		BiomeSelectorIndex selectorIndex = new BiomeSelectorIndex(biomes, levelProperties, keys);
+		BitSet[] selections = new BitSet[sortedModifiers.size()];
+
+		for (int i = 0; i < selections.length; i++) {
+			if (sortedModifiers.get(i).selector instanceof IndexedBiomeSelector indexedSelector) {
+				selections[i] = selectorIndex.select(indexedSelector);
+			}
+		}
+
+		selectorSw.stop();
+
 		int biomesChanged = 0;
 		int biomesProcessed = 0;
 		int modifiersApplied = 0;
+		List<BiomeModificationResult> modifications;
 
-		for (RegistryKey<Biome> key : keys) {
-			Biome biome = biomes.getOrThrow(key);
+		if (PARALLEL && keys.size() > 1) {
+			modifications = modifyBiomesParallel(impl, levelProperties, biomes, keys, sortedModifiers, selections);
+		} else {
+			modifications = new ArrayList<>(keys.size());
+
+			for (int i = 0; i < keys.size(); i++) {
+				RegistryKey<Biome> key = keys.get(i);
+				modifications.add(modifyBiome(impl, levelProperties, key, biomes.getOrThrow(key), i, sortedModifiers, selections));
+			}
+		}
+
+		// Commit the modifications serially, in the order of the biome keys
+		Set<Biome> modifiedBiomes = Collections.newSetFromMap(new IdentityHashMap<>());
 
+		for (int i = 0; i < modifications.size(); i++) {
+			BiomeModificationResult modification = modifications.get(i);
 			biomesProcessed++;
 
-			// Make a copy of the biome to allow selection contexts to see it unmodified,
-			// But do so only once it's known anything wants to modify the biome at all
-			BiomeSelectionContext context = new BiomeSelectionContextImpl(impl, levelProperties, key, biome);
-			BiomeModificationContextImpl modificationContext = null;
+			if (modification.context() != null) {
+				biomesChanged++;
+				modifiersApplied += modification.modifiersApplied();
+				modifiedBiomes.add(biomes.getOrThrow(keys.get(i)));
+
+				// Re-freeze and apply certain cleanup actions
+				modification.context().freeze();
+			}
+		}
+
+		if (biomesProcessed > 0) {
+			// The Biome sources have a total ordering of feature generation that might have changed
+			// by us adding or removing features from biomes.
+			int featureOrders = FeatureOrdering.rebuild(impl, levelProperties.getGeneratorOptions().getDimensions(), modifiedBiomes);
+
+			LOGGER.info("Applied {} biome modifications to {} of {} new biomes in {} ({} distinct selectors precomputed in {}, {} feature orders to rebuild)", modifiersApplied, biomesChanged,
+					biomesProcessed, sw, selectorIndex.getSelectorCount(), selectorSw, featureOrders);
+		}
+	}
+
+	/**
+	 * @param selections the precomputed selections of each modifier, or null for those whose selector must be tested against each biome
+	 */
+	private static BiomeModificationResult modifyBiome(DynamicRegistryManager impl, LevelProperties levelProperties, RegistryKey<Biome> key, Biome biome, int biomeIndex, List<ModifierRecord> sortedModifiers, BitSet[] selections) {
+		// Make a copy of the biome to allow selection contexts to see it unmodified,
+		// But do so only once it's known anything wants to modify the biome at all
+		BiomeSelectionContext context = new BiomeSelectionContextImpl(impl, levelProperties, key, biome);
+		BiomeModificationContextImpl modificationContext = null;
+		int modifiersApplied = 0;
 
-			for (ModifierRecord modifier : sortedModifiers) {
-				if (modifier.selector.test(context)) {
-					LOGGER.trace("Applying modifier {} to {}", modifier, key.getValue());
+		for (int i = 0; i < selections.length; i++) {
+			ModifierRecord modifier = sortedModifiers.get(i);
+			boolean selected = selections[i] != null ? selections[i].get(biomeIndex) : modifier.selector.test(context);
 
-					// Create the copy only if at least one modifier applies, since it's pretty costly
-					if (modificationContext == null) {
-						biomesChanged++;
-						modificationContext = new BiomeModificationContextImpl(impl, key, biome);
-					}
+			if (selected) {
+				LOGGER.trace("Applying modifier {} to {}", modifier, key.getValue());
 
-					modifier.apply(context, modificationContext);
-					modifiersApplied++;
+				// Create the copy only if at least one modifier applies, since it's pretty costly
+				if (modificationContext == null) {
+					modificationContext = new BiomeModificationContextImpl(impl, key, biome);
 				}
-			}
 
-			// Re-freeze and apply certain cleanup actions
-			if (modificationContext != null) {
-				modificationContext.freeze();
+				modifier.apply(context, modificationContext);
+				modifiersApplied++;
 			}
 		}
 
-		if (biomesProcessed > 0) {
-			// Rebuild caches within biome sources after modifying feature lists
-			for (DimensionOptions dimension : levelProperties.getGeneratorOptions().getDimensions()) {
-				// The Biome source has a total ordering of feature generation that might have changed
-				// by us adding or removing features from biomes.
-				BiomeSource biomeSource = dimension.getChunkGenerator().getBiomeSource();
-
-				// Replace the Supplier to force it to rebuild on next call
-				biomeSource.indexedFeaturesSupplier = Suppliers.memoize(() -> {
-					return biomeSource.method_39525(biomeSource.biomes.stream().distinct().toList(), true);
-				});
+		return new BiomeModificationResult(modificationContext, modifiersApplied);
+	}
+
+	/**
+	 * Biomes are modified independently of each other, and every biome still goes through all modifiers in order,
+	 * so this gives the same result as modifying them one after the other as long as modifiers only look at the biome they are modifying.
+	 */
+	private static List<BiomeModificationResult> modifyBiomesParallel(DynamicRegistryManager impl, LevelProperties levelProperties, Registry<Biome> biomes, List<RegistryKey<Biome>> keys, List<ModifierRecord> sortedModifiers, BitSet[] selections) {
+		List<CompletableFuture<BiomeModificationResult>> futures = new ArrayList<>(keys.size());
+
+		for (int i = 0; i < keys.size(); i++) {
+			RegistryKey<Biome> key = keys.get(i);
+			Biome biome = biomes.getOrThrow(key);
+			int biomeIndex = i;
+			futures.add(CompletableFuture.supplyAsync(() -> modifyBiome(impl, levelProperties, key, biome, biomeIndex, sortedModifiers, selections), Util.getMainWorkerExecutor()));
+		}
+
+		List<BiomeModificationResult> modifications = new ArrayList<>(keys.size());
+
+		try {
+			for (CompletableFuture<BiomeModificationResult> future : futures) {
+				modifications.add(future.join());
+			}
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			} else if (e.getCause() instanceof Error error) {
+				throw error;
 			}
 
-			LOGGER.info("Applied {} biome modifications to {} of {} new biomes in {}", modifiersApplied, biomesChanged,
-					biomesProcessed, sw);
+			throw e;
 		}
+
+		return modifications;
+	}
+
+	private record BiomeModificationResult(@Nullable BiomeModificationContextImpl context, int modifiersApplied) {
 	}
 
 	private static class ModifierRecord {
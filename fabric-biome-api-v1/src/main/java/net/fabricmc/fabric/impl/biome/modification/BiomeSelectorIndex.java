@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.biome.modification;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.dimension.DimensionOptions;
+import net.minecraft.world.level.LevelProperties;
+
+/**
+ * Evaluates {@link IndexedBiomeSelector}s for all biomes of a registry at once, and memoizes the result of each distinct selector.
+ */
+@ApiStatus.Internal
+public final class BiomeSelectorIndex {
+	private final Registry<Biome> registry;
+	private final LevelProperties levelProperties;
+	private final List<RegistryKey<Biome>> keys;
+	private final Object2IntMap<RegistryKey<Biome>> keyIndices = new Object2IntOpenHashMap<>();
+	private final Map<Biome, Integer> biomeIndices = new IdentityHashMap<>();
+	private final Map<IndexedBiomeSelector, BitSet> selections = new HashMap<>();
+
+	BiomeSelectorIndex(Registry<Biome> registry, LevelProperties levelProperties, List<RegistryKey<Biome>> keys) {
+		this.registry = registry;
+		this.levelProperties = levelProperties;
+		this.keys = keys;
+		keyIndices.defaultReturnValue(-1);
+
+		for (int i = 0; i < keys.size(); i++) {
+			keyIndices.put(keys.get(i), i);
+			biomeIndices.put(registry.getOrThrow(keys.get(i)), i);
+		}
+	}
+
+	/**
+	 * @return the biomes matched by the selector, which must not be modified
+	 */
+	public BitSet select(IndexedBiomeSelector selector) {
+		BitSet result = selections.get(selector);
+
+		if (result == null) {
+			// Not computeIfAbsent, composite selectors select their operands recursively
+			result = selector.select(this);
+			selections.put(selector, result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return the number of distinct selectors evaluated so far
+	 */
+	public int getSelectorCount() {
+		return selections.size();
+	}
+
+	public int size() {
+		return keys.size();
+	}
+
+	public RegistryKey<Biome> getKey(int index) {
+		return keys.get(index);
+	}
+
+	/**
+	 * @return the index of the biome, or -1 if it is not part of the registry
+	 */
+	public int indexOf(RegistryKey<Biome> key) {
+		return keyIndices.getInt(key);
+	}
+
+	void set(BitSet bits, Biome biome) {
+		Integer index = biomeIndices.get(biome);
+
+		if (index != null) {
+			bits.set(index);
+		}
+	}
+
+	public Registry<Biome> getRegistry() {
+		return registry;
+	}
+
+	@Nullable
+	public DimensionOptions getDimension(RegistryKey<DimensionOptions> key) {
+		return levelProperties.getGeneratorOptions().getDimensions().get(key);
+	}
+}
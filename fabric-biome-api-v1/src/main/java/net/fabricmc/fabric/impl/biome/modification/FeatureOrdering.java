@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.biome.modification;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.google.common.base.Suppliers;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.util.registry.DynamicRegistryManager;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.RegistryEntry;
+import net.minecraft.util.registry.RegistryEntryList;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.dimension.DimensionOptions;
+import net.minecraft.world.gen.feature.PlacedFeature;
+
+/**
+ * Rebuilds the feature generation order of biome sources after biomes were modified.
+ *
+ * <p>The order itself must stay exactly what vanilla computes, since the index of a feature seeds its decoration,
+ * so it is still computed by vanilla. What this avoids is recomputing it needlessly:
+ * <ul>
+ *     <li>biome sources none of whose biomes were modified keep their current order,</li>
+ *     <li>biome sources with the same set of biomes share a single computation,</li>
+ *     <li>when the modifications introduced a cycle, it is located with a single graph traversal instead of
+ *     vanilla's search for the minimal set of involved biomes, which sorts the features once per biome and per pass.</li>
+ * </ul>
+ */
+final class FeatureOrdering {
+	private FeatureOrdering() {
+	}
+
+	/**
+	 * @return the number of distinct feature orders that will be recomputed
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static int rebuild(DynamicRegistryManager registries, Iterable<DimensionOptions> dimensions, Set<Biome> modifiedBiomes) {
+		Map<List<RegistryEntry<Biome>>, Supplier> orders = new HashMap<>();
+
+		for (DimensionOptions dimension : dimensions) {
+			BiomeSource biomeSource = dimension.getChunkGenerator().getBiomeSource();
+			List<RegistryEntry<Biome>> biomes = biomeSource.biomes.stream().distinct().toList();
+
+			if (biomes.stream().noneMatch(entry -> modifiedBiomes.contains(entry.value()))) {
+				// The order only depends on the feature lists of these biomes, none of which changed
+				continue;
+			}
+
+			// Replace the Supplier to force it to rebuild on next call
+			biomeSource.indexedFeaturesSupplier = orders.computeIfAbsent(biomes, b -> Suppliers.memoize(() -> {
+				try {
+					// Don't let vanilla search for the involved biomes if there is a cycle, it is very slow
+					return biomeSource.method_39525(biomes, false);
+				} catch (IllegalStateException e) {
+					throw new IllegalStateException(describeCycle(registries, biomes, modifiedBiomes), e);
+				}
+			}));
+		}
+
+		return orders.size();
+	}
+
+	private static String describeCycle(DynamicRegistryManager registries, List<RegistryEntry<Biome>> biomes, Set<Biome> modifiedBiomes) {
+		// Same graph as vanilla: an edge between each feature and the next one of any biome, the features being per step
+		Map<Node, Map<Node, RegistryEntry<Biome>>> edges = new LinkedHashMap<>();
+
+		for (RegistryEntry<Biome> biome : biomes) {
+			List<RegistryEntryList<PlacedFeature>> steps = biome.value().getGenerationSettings().getFeatures();
+			Node previous = null;
+
+			for (int step = 0; step < steps.size(); step++) {
+				for (RegistryEntry<PlacedFeature> feature : steps.get(step)) {
+					Node node = new Node(step, feature.value());
+					edges.computeIfAbsent(node, n -> new LinkedHashMap<>());
+
+					if (previous != null) {
+						edges.get(previous).putIfAbsent(node, biome);
+					}
+
+					previous = node;
+				}
+			}
+		}
+
+		List<Node> cycle = findCycle(edges);
+
+		if (cycle == null) {
+			return "Feature order cycle found";
+		}
+
+		Registry<PlacedFeature> features = registries.get(Registry.PLACED_FEATURE_KEY);
+		StringBuilder message = new StringBuilder("Feature order cycle found after biome modifications: ");
+
+		for (int i = 0; i < cycle.size(); i++) {
+			Node from = cycle.get(i);
+			Node to = cycle.get((i + 1) % cycle.size());
+			RegistryEntry<Biome> biome = edges.get(from).get(to);
+
+			message.append(i == 0 ? "" : ", ")
+					.append(features.getId(from.feature())).append(" (step ").append(from.step()).append(")")
+					.append(" before ").append(features.getId(to.feature()))
+					.append(" in ").append(biome.getKey().map(key -> key.getValue().toString()).orElse("[unregistered]"))
+					.append(modifiedBiomes.contains(biome.value()) ? " (modified)" : "");
+		}
+
+		return message.toString();
+	}
+
+	/**
+	 * Iterative depth-first search, as the graph can be deep enough to overflow the stack.
+	 */
+	@Nullable
+	private static List<Node> findCycle(Map<Node, Map<Node, RegistryEntry<Biome>>> edges) {
+		Map<Node, Boolean> onPath = new HashMap<>(); // true while on the current path, false once done
+		Map<Node, Node> parents = new HashMap<>();
+
+		for (Node root : edges.keySet()) {
+			if (onPath.containsKey(root)) {
+				continue;
+			}
+
+			Deque<Node> stack = new ArrayDeque<>();
+			Deque<Iterator<Node>> iterators = new ArrayDeque<>();
+			stack.push(root);
+			iterators.push(edges.get(root).keySet().iterator());
+			onPath.put(root, true);
+
+			while (!stack.isEmpty()) {
+				Node node = stack.peek();
+				Iterator<Node> successors = iterators.peek();
+
+				if (!successors.hasNext()) {
+					onPath.put(node, false);
+					stack.pop();
+					iterators.pop();
+					continue;
+				}
+
+				Node next = successors.next();
+				Boolean state = onPath.get(next);
+
+				if (state == null) {
+					parents.put(next, node);
+					onPath.put(next, true);
+					stack.push(next);
+					iterators.push(edges.get(next).keySet().iterator());
+				} else if (state) {
+					// Walk back from the current node to the successor to get the cycle
+					List<Node> cycle = new ArrayList<>();
+
+					for (Node n = node; !n.equals(next); n = parents.get(n)) {
+						cycle.add(0, n);
+					}
+
+					cycle.add(0, next);
+					return cycle;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Features are compared by identity, like vanilla does.
+	 */
+	private record Node(int step, PlacedFeature feature) {
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Node other && step == other.step && feature == other.feature;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * step + System.identityHashCode(feature);
+		}
+	}
+}
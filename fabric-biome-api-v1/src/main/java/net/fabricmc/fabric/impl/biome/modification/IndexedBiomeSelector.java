@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.biome.modification;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import net.minecraft.tag.TagKey;
+import net.minecraft.util.registry.RegistryEntry;
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.dimension.DimensionOptions;
+
+import net.fabricmc.fabric.api.biome.v1.BiomeSelectionContext;
+
+/**
+ * A biome selector whose result only depends on the identity of the biome (its key, its tags or the dimensions it can generate in),
+ * and not on its settings. It can therefore be evaluated for all biomes at once, before any modification is applied,
+ * with {@link #select}, and selectors that are equal share the result.
+ *
+ * <p>Combining indexed selectors with {@link #and}, {@link #or} and {@link #negate} gives another indexed selector,
+ * other combinations are opaque and evaluated for each biome.
+ */
+@ApiStatus.Internal
+public sealed interface IndexedBiomeSelector extends Predicate<BiomeSelectionContext> {
+	/**
+	 * @return the set of the {@linkplain BiomeSelectorIndex#indexOf(RegistryKey) indices} of the biomes matched by this selector
+	 */
+	BitSet select(BiomeSelectorIndex index);
+
+	@Override
+	default Predicate<BiomeSelectionContext> and(Predicate<? super BiomeSelectionContext> other) {
+		if (other instanceof IndexedBiomeSelector indexedOther) {
+			return new And(this, indexedOther);
+		}
+
+		return Predicate.super.and(other);
+	}
+
+	@Override
+	default Predicate<BiomeSelectionContext> or(Predicate<? super BiomeSelectionContext> other) {
+		if (other instanceof IndexedBiomeSelector indexedOther) {
+			return new Or(this, indexedOther);
+		}
+
+		return Predicate.super.or(other);
+	}
+
+	@Override
+	default Predicate<BiomeSelectionContext> negate() {
+		return new Not(this);
+	}
+
+	/**
+	 * Matches all biomes whose key matches the predicate, equality is that of the predicate.
+	 */
+	record ByKeyPredicate(Predicate<RegistryKey<Biome>> predicate) implements IndexedBiomeSelector {
+		@Override
+		public boolean test(BiomeSelectionContext context) {
+			return predicate.test(context.getBiomeKey());
+		}
+
+		@Override
+		public BitSet select(BiomeSelectorIndex index) {
+			BitSet result = new BitSet(index.size());
+
+			for (int i = 0; i < index.size(); i++) {
+				if (predicate.test(index.getKey(i))) {
+					result.set(i);
+				}
+			}
+
+			return result;
+		}
+	}
+
+	record ByKeys(Set<RegistryKey<Biome>> keys, boolean exclude) implements IndexedBiomeSelector {
+		@Override
+		public boolean test(BiomeSelectionContext context) {
+			return keys.contains(context.getBiomeKey()) != exclude;
+		}
+
+		@Override
+		public BitSet select(BiomeSelectorIndex index) {
+			BitSet result = new BitSet(index.size());
+
+			for (RegistryKey<Biome> key : keys) {
+				int i = index.indexOf(key);
+
+				if (i >= 0) {
+					result.set(i);
+				}
+			}
+
+			if (exclude) {
+				result.flip(0, index.size());
+			}
+
+			return result;
+		}
+	}
+
+	record ByTag(TagKey<Biome> tag) implements IndexedBiomeSelector {
+		@Override
+		public boolean test(BiomeSelectionContext context) {
+			return context.hasTag(tag);
+		}
+
+		@Override
+		public BitSet select(BiomeSelectorIndex index) {
+			BitSet result = new BitSet(index.size());
+
+			for (RegistryEntry<Biome> entry : index.getRegistry().iterateEntries(tag)) {
+				index.set(result, entry.value());
+			}
+
+			return result;
+		}
+	}
+
+	record ByDimension(RegistryKey<DimensionOptions> dimensionKey) implements IndexedBiomeSelector {
+		@Override
+		public boolean test(BiomeSelectionContext context) {
+			return context.canGenerateIn(dimensionKey);
+		}
+
+		@Override
+		public BitSet select(BiomeSelectorIndex index) {
+			BitSet result = new BitSet(index.size());
+			DimensionOptions dimension = index.getDimension(dimensionKey);
+
+			if (dimension != null) {
+				for (RegistryEntry<Biome> entry : dimension.getChunkGenerator().getBiomeSource().getBiomes()) {
+					index.set(result, entry.value());
+				}
+			}
+
+			return result;
+		}
+	}
+
+	record And(IndexedBiomeSelector first, IndexedBiomeSelector second) implements IndexedBiomeSelector {
+		@Override
+		public boolean test(BiomeSelectionContext context) {
+			return first.test(context) && second.test(context);
+		}
+
+		@Override
+		public BitSet select(BiomeSelectorIndex index) {
+			BitSet result = (BitSet) index.select(first).clone();
+			result.and(index.select(second));
+			return result;
+		}
+	}
+
+	record Or(IndexedBiomeSelector first, IndexedBiomeSelector second) implements IndexedBiomeSelector {
+		@Override
+		public boolean test(BiomeSelectionContext context) {
+			return first.test(context) || second.test(context);
+		}
+
+		@Override
+		public BitSet select(BiomeSelectorIndex index) {
+			BitSet result = (BitSet) index.select(first).clone();
+			result.or(index.select(second));
+			return result;
+		}
+	}
+
+	record Not(IndexedBiomeSelector selector) implements IndexedBiomeSelector {
+		@Override
+		public boolean test(BiomeSelectionContext context) {
+			return !selector.test(context);
+		}
+
+		@Override
+		public BitSet select(BiomeSelectorIndex index) {
+			BitSet result = (BitSet) index.select(selector).clone();
+			result.flip(0, index.size());
+			return result;
+		}
+
+		@Override
+		public Predicate<BiomeSelectionContext> negate() {
+			return selector;
+		}
+	}
+}
@@ -16,78 +16,61 @@
 
 package net.fabricmc.fabric.impl.content.registry;
 
-import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import net.minecraft.block.Block;
-import net.minecraft.resource.ResourceManager;
-import net.minecraft.resource.ResourceType;
 import net.minecraft.tag.TagKey;
-import net.minecraft.util.Identifier;
 import net.minecraft.util.registry.Registry;
 import net.minecraft.util.registry.RegistryEntry;
 
 import net.fabricmc.fabric.api.registry.FlammableBlockRegistry;
-import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
-import net.fabricmc.fabric.api.resource.ResourceReloadListenerKeys;
-import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.fabricmc.fabric.impl.content.registry.util.RawIdIndex;
 
-public class FlammableBlockRegistryImpl implements FlammableBlockRegistry, SimpleSynchronousResourceReloadListener {
+public class FlammableBlockRegistryImpl implements FlammableBlockRegistry {
+	/**
+	 * Packed chances of blocks without a Fabric entry.
+	 */
+	public static final long NO_ENTRY = Long.MIN_VALUE;
 	private static final FlammableBlockRegistry.Entry REMOVED = new FlammableBlockRegistry.Entry(0, 0);
 	private static final Map<Block, FlammableBlockRegistryImpl> REGISTRIES = new HashMap<>();
-	private static final Collection<Identifier> RELOAD_DEPS = Collections.singletonList(ResourceReloadListenerKeys.TAGS);
-	private static int idCounter = 0;
 
-	private final Map<Block, FlammableBlockRegistry.Entry> registeredEntriesBlock = new HashMap<>();
-	private final Map<TagKey<Block>, FlammableBlockRegistry.Entry> registeredEntriesTag = new HashMap<>();
-	private final Map<Block, FlammableBlockRegistry.Entry> computedEntries = new HashMap<>();
-	private final Identifier id;
+	private final Map<Block, FlammableBlockRegistry.Entry> registeredEntriesBlock = new HashMap<>(); // guarded by this
+	private final Map<TagKey<Block>, FlammableBlockRegistry.Entry> registeredEntriesTag = new HashMap<>(); // guarded by this
+	private final TagDrivenSnapshot<Inputs, Snapshot> snapshot;
 	private final Block key;
-	private boolean tagsPresent = false;
 
 	private FlammableBlockRegistryImpl(Block key) {
-		ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(this);
-		this.id = new Identifier("fabric:private/fire_registry_" + (++idCounter));
+		this.snapshot = new TagDrivenSnapshot<>("flammable blocks of " + key, this::collectInputs, Snapshot::build);
 		this.key = key;
 	}
 
-	// TODO: Asynchronous?
-	@Override
-	public void reload(ResourceManager var1) {
-		reload();
-		tagsPresent = true;
-	}
+	private Inputs collectInputs() {
+		Map<Block, FlammableBlockRegistry.Entry> entriesBlock;
+		Map<TagKey<Block>, FlammableBlockRegistry.Entry> entriesTag;
 
-	private void reload() {
-		computedEntries.clear();
+		synchronized (this) {
+			entriesBlock = new HashMap<>(registeredEntriesBlock);
+			entriesTag = new HashMap<>(registeredEntriesTag);
+		}
 
-		// tags take precedence before blocks
-		for (TagKey<Block> tag : registeredEntriesTag.keySet()) {
-			FlammableBlockRegistry.Entry entry = registeredEntriesTag.get(tag);
+		Map<Block, FlammableBlockRegistry.Entry> computedEntries = new HashMap<>();
 
-			for (RegistryEntry<Block> block : Registry.BLOCK.iterateEntries(tag)) {
-				computedEntries.put(block.value(), entry);
+		// tags take precedence before blocks
+		for (Map.Entry<TagKey<Block>, FlammableBlockRegistry.Entry> tagEntry : entriesTag.entrySet()) {
+			for (RegistryEntry<Block> block : Registry.BLOCK.iterateEntries(tagEntry.getKey())) {
+				computedEntries.put(block.value(), tagEntry.getValue());
 			}
 		}
 
-		computedEntries.putAll(registeredEntriesBlock);
-
-		/* computedBurnChances.clear();
-		computedSpreadChances.clear();
-
-		for (Block block : computedEntries.keySet()) {
-			FlammableBlockRegistry.Entry entry = computedEntries.get(block);
-			computedBurnChances.put(block, entry.getBurnChance());
-			computedSpreadChances.put(block, entry.getSpreadChance());
-		} */
+		computedEntries.putAll(entriesBlock);
+		return new Inputs(computedEntries, new RawIdIndex<>(Registry.BLOCK));
 	}
 
 	// User-facing fire registry interface - queries vanilla fire block
 	@Override
 	public Entry get(Block block) {
-		Entry entry = computedEntries.get(block);
+		Entry entry = getFabric(block);
 
 		if (entry != null) {
 			return entry;
@@ -97,25 +80,60 @@ public class FlammableBlockRegistryImpl implements FlammableBlockRegistry, Simpl
 	}
 
 	public Entry getFabric(Block block) {
-		return computedEntries.get(block);
+		return snapshot.get().entries().get(block);
+	}
+
+	/**
+	 * Looks up the burn and spread chances of the Fabric entry of a block in a table indexed by raw id,
+	 * which avoids hashing the block and unboxing the entry for every fire tick.
+	 *
+	 * @return the chances packed with {@link #pack}, or {@link #NO_ENTRY} if the block has no Fabric entry
+	 */
+	public long getFabricChances(Block block) {
+		Snapshot table = snapshot.get();
+		int index = table.index().indexOf(block);
+
+		if (index == RawIdIndex.STALE) {
+			// the raw ids were remapped since the table was built
+			table = snapshot.recompute();
+			index = table.index().indexOf(block);
+		}
+
+		if (index < 0) {
+			return NO_ENTRY;
+		}
+
+		return table.chances()[index];
+	}
+
+	public static long pack(Entry entry) {
+		return ((long) entry.getBurnChance() << 32) | (entry.getSpreadChance() & 0xFFFFFFFFL);
+	}
+
+	public static int unpackBurnChance(long chances) {
+		return (int) (chances >> 32);
+	}
+
+	public static int unpackSpreadChance(long chances) {
+		return (int) chances;
 	}
 
 	@Override
 	public void add(Block block, Entry value) {
-		registeredEntriesBlock.put(block, value);
-
-		if (tagsPresent) {
-			reload();
+		synchronized (this) {
+			registeredEntriesBlock.put(block, value);
 		}
+
+		snapshot.invalidate();
 	}
 
 	@Override
 	public void add(TagKey<Block> tag, Entry value) {
-		registeredEntriesTag.put(tag, value);
-
-		if (tagsPresent) {
-			reload();
+		synchronized (this) {
+			registeredEntriesTag.put(tag, value);
 		}
+
+		snapshot.invalidate();
 	}
 
 	@Override
@@ -130,20 +148,20 @@ public class FlammableBlockRegistryImpl implements FlammableBlockRegistry, Simpl
 
 	@Override
 	public void clear(Block block) {
-		registeredEntriesBlock.remove(block);
-
-		if (tagsPresent) {
-			reload();
+		synchronized (this) {
+			registeredEntriesBlock.remove(block);
 		}
+
+		snapshot.invalidate();
 	}
 
 	@Override
 	public void clear(TagKey<Block> tag) {
-		registeredEntriesTag.remove(tag);
-
-		if (tagsPresent) {
-			reload();
+		synchronized (this) {
+			registeredEntriesTag.remove(tag);
 		}
+
+		snapshot.invalidate();
 	}
 
 	public static FlammableBlockRegistryImpl getInstance(Block block) {
@@ -154,13 +172,21 @@ public class FlammableBlockRegistryImpl implements FlammableBlockRegistry, Simpl
 		return REGISTRIES.computeIfAbsent(block, FlammableBlockRegistryImpl::new);
 	}
 
-	@Override
-	public Identifier getFabricId() {
-		return id;
+	private record Inputs(Map<Block, Entry> entries, RawIdIndex<Block> index) {
 	}
 
-	@Override
-	public Collection<Identifier> getFabricDependencies() {
-		return RELOAD_DEPS;
+	private record Snapshot(Map<Block, Entry> entries, RawIdIndex<Block> index, long[] chances) {
+		static Snapshot build(Inputs inputs) {
+			Map<Block, Entry> entries = inputs.entries();
+			RawIdIndex<Block> index = inputs.index();
+			long[] chances = new long[index.size()];
+
+			for (int i = 0; i < chances.length; i++) {
+				Entry entry = entries.get(index.get(i));
+				chances[i] = entry != null ? pack(entry) : NO_ENTRY;
+			}
+
+			return new Snapshot(entries, index, chances);
+		}
 	}
 }
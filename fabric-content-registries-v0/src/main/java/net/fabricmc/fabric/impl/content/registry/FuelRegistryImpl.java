@@ -21,6 +21,7 @@ import java.util.Map;
 
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,32 +32,68 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemConvertible;
 import net.minecraft.util.registry.Registry;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.registry.FuelRegistry;
+import net.fabricmc.fabric.impl.content.registry.util.RawIdIndex;
 
 // TODO: Clamp values to 32767 (+ add hook for mods which extend the limit to disable the check?)
 public final class FuelRegistryImpl implements FuelRegistry {
+	/**
+	 * Fuel time of items which cannot be used as fuel.
+	 */
+	public static final int NOT_FUEL = -1;
 	private static final Logger LOGGER = LoggerFactory.getLogger(FuelRegistryImpl.class);
-	private final Object2IntMap<ItemConvertible> itemCookTimes = new Object2IntLinkedOpenHashMap<>();
-	private final Object2IntMap<TagKey<Item>> tagCookTimes = new Object2IntLinkedOpenHashMap<>();
-	private volatile Map<Item, Integer> fuelTimeCache = null; // thread safe via copy-on-write mechanism
-
-	public FuelRegistryImpl() {
-		ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, serverResourceManager, success) -> {
-			if (success) {
-				resetCache();
-			}
-		});
-	}
+	private final Object2IntMap<ItemConvertible> itemCookTimes = new Object2IntLinkedOpenHashMap<>(); // guarded by this
+	private final Object2IntMap<TagKey<Item>> tagCookTimes = new Object2IntLinkedOpenHashMap<>(); // guarded by this
+	private final TagDrivenSnapshot<Inputs, Snapshot> snapshot = new TagDrivenSnapshot<>("fuel times", Inputs::collect, Snapshot::build);
 
 	public Map<Item, Integer> getFuelTimes() {
-		Map<Item, Integer> ret = fuelTimeCache;
+		return snapshot.get().fuelTimes();
+	}
+
+	/**
+	 * Looks up the fuel time of an item in a table indexed by raw id, which avoids hashing the item and unboxing the time
+	 * every time a furnace or hopper checks an item.
+	 *
+	 * @return the fuel time of the item, or {@link #NOT_FUEL} if it cannot be used as fuel
+	 */
+	public int getFuelTime(Item item) {
+		Snapshot table = snapshot.get();
+		int index = table.index().indexOf(item);
+
+		if (index == RawIdIndex.STALE) {
+			// the raw ids were remapped since the table was built
+			table = snapshot.recompute();
+			index = table.index().indexOf(item);
+		}
 
-		if (ret == null) {
-			fuelTimeCache = ret = new IdentityHashMap<>(AbstractFurnaceBlockEntity.createFuelTimeMap()); // IdentityHashMap is faster than vanilla's LinkedHashMap and suitable for Item keys
+		if (index < 0) {
+			return NOT_FUEL;
 		}
 
-		return ret;
+		return table.table()[index];
+	}
+
+	/**
+	 * Same as {@link #getFuelTime}, for callers that need the fuel time as an {@link Integer}.
+	 *
+	 * @return the {@link Integer} instance of the fuel time map, to not box the time again, or {@code null} if the item cannot be used as fuel
+	 */
+	@Nullable
+	public Integer getBoxedFuelTime(Item item) {
+		Snapshot table = snapshot.get();
+		int index = table.index().indexOf(item);
+
+		if (index == RawIdIndex.STALE) {
+			// the raw ids were remapped since the table was built
+			table = snapshot.recompute();
+			index = table.index().indexOf(item);
+		}
+
+		if (index < 0) {
+			return null;
+		}
+
+		return table.boxedTable()[index];
 	}
 
 	@Override
@@ -65,7 +102,7 @@ public final class FuelRegistryImpl implements FuelRegistry {
 	}
 
 	@Override
-	public void add(ItemConvertible item, Integer cookTime) {
+	public synchronized void add(ItemConvertible item, Integer cookTime) {
 		if (cookTime > 32767) {
 			LOGGER.warn("Tried to register an overly high cookTime: " + cookTime + " > 32767! (" + item + ")");
 		}
@@ -75,7 +112,7 @@ public final class FuelRegistryImpl implements FuelRegistry {
 	}
 
 	@Override
-	public void add(TagKey<Item> tag, Integer cookTime) {
+	public synchronized void add(TagKey<Item> tag, Integer cookTime) {
 		if (cookTime > 32767) {
 			LOGGER.warn("Tried to register an overly high cookTime: " + cookTime + " > 32767! (" + getTagName(tag) + ")");
 		}
@@ -97,18 +134,18 @@ public final class FuelRegistryImpl implements FuelRegistry {
 	}
 
 	@Override
-	public void clear(ItemConvertible item) {
+	public synchronized void clear(ItemConvertible item) {
 		itemCookTimes.removeInt(item);
 		resetCache();
 	}
 
 	@Override
-	public void clear(TagKey<Item> tag) {
+	public synchronized void clear(TagKey<Item> tag) {
 		tagCookTimes.removeInt(tag);
 		resetCache();
 	}
 
-	public void apply(Map<Item, Integer> map) {
+	public synchronized void apply(Map<Item, Integer> map) {
 		// tags take precedence before blocks
 		for (TagKey<Item> tag : tagCookTimes.keySet()) {
 			int time = tagCookTimes.getInt(tag);
@@ -139,6 +176,30 @@ public final class FuelRegistryImpl implements FuelRegistry {
 	}
 
 	public void resetCache() {
-		fuelTimeCache = null;
+		snapshot.invalidate();
+	}
+
+	private record Inputs(Map<Item, Integer> fuelTimes, RawIdIndex<Item> index) {
+		static Inputs collect() {
+			// IdentityHashMap is faster than vanilla's LinkedHashMap and suitable for Item keys
+			return new Inputs(new IdentityHashMap<>(AbstractFurnaceBlockEntity.createFuelTimeMap()), new RawIdIndex<>(Registry.ITEM));
+		}
+	}
+
+	private record Snapshot(Map<Item, Integer> fuelTimes, RawIdIndex<Item> index, int[] table, Integer[] boxedTable) {
+		static Snapshot build(Inputs inputs) {
+			Map<Item, Integer> fuelTimes = inputs.fuelTimes();
+			RawIdIndex<Item> index = inputs.index();
+			int[] table = new int[index.size()];
+			Integer[] boxedTable = new Integer[index.size()];
+
+			for (int i = 0; i < table.length; i++) {
+				Integer fuelTime = fuelTimes.get(index.get(i));
+				table[i] = fuelTime != null ? fuelTime : NOT_FUEL;
+				boxedTable[i] = fuelTime;
+			}
+
+			return new Snapshot(fuelTimes, index, table, boxedTable);
+		}
 	}
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.content.registry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.util.Util;
+
+/**
+ * Holds an immutable snapshot derived from tags and registered entries.
+ *
+ * <p>A snapshot is computed in two steps: its inputs are collected from the tags and registries, then the lookup tables
+ * are built from those inputs alone. Whenever the inputs change, the snapshot is discarded and the next query computes it again.
+ *
+ * <p>When the tags are rebound, the inputs are collected right away on the thread that bound them, and only the tables
+ * are built on the worker executor, ahead of the first query. A query made before they are ready waits for them.
+ * All snapshots are prepared from a single hook on tag binding, rather than from one reload listener each.
+ */
+public final class TagDrivenSnapshot<I, S> {
+	private static final Logger LOGGER = LoggerFactory.getLogger(TagDrivenSnapshot.class);
+	private static final List<TagDrivenSnapshot<?, ?>> SNAPSHOTS = new CopyOnWriteArrayList<>();
+
+	private final String name;
+	private final Supplier<I> inputCollector;
+	private final Function<I, S> builder;
+	private volatile S snapshot = null;
+	private int generation = 0; // guarded by this
+	@Nullable
+	private CompletableFuture<S> pending = null; // guarded by this, built for the current generation
+
+	/**
+	 * @param inputCollector collects the inputs from the tags and registries, called on the thread that bound the tags or that queries the snapshot
+	 * @param builder builds the snapshot from the inputs, which may be called on a worker thread and must not access tags or registries
+	 */
+	public TagDrivenSnapshot(String name, Supplier<I> inputCollector, Function<I, S> builder) {
+		this.name = name;
+		this.inputCollector = inputCollector;
+		this.builder = builder;
+		SNAPSHOTS.add(this);
+	}
+
+	/**
+	 * Called after the tags have been bound to the registries, on the server after a data pack (re)load
+	 * and on the client after the tags were synchronized.
+	 */
+	public static void onTagsBound() {
+		for (TagDrivenSnapshot<?, ?> snapshot : SNAPSHOTS) {
+			snapshot.prepare();
+		}
+	}
+
+	public S get() {
+		S ret = snapshot;
+
+		if (ret != null) {
+			return ret;
+		}
+
+		CompletableFuture<S> future;
+		int expectedGeneration;
+
+		synchronized (this) {
+			future = pending;
+			expectedGeneration = generation;
+		}
+
+		if (future != null) {
+			try {
+				ret = future.join();
+				publish(ret, expectedGeneration);
+				return ret;
+			} catch (CompletionException e) {
+				LOGGER.error("Failed to prepare {}, computing it again", name, e.getCause());
+			}
+		}
+
+		return recompute();
+	}
+
+	/**
+	 * Computes a new snapshot on the calling thread, for when the current one cannot be used at all (e.g. the raw ids were remapped).
+	 */
+	public S recompute() {
+		int expectedGeneration;
+
+		synchronized (this) {
+			expectedGeneration = generation;
+		}
+
+		S ret = builder.apply(inputCollector.get());
+		publish(ret, expectedGeneration);
+		return ret;
+	}
+
+	/**
+	 * Discards the snapshot after its inputs changed, the next query computes it again.
+	 */
+	public synchronized void invalidate() {
+		generation++;
+		snapshot = null;
+		pending = null;
+	}
+
+	private void prepare() {
+		int expectedGeneration;
+
+		synchronized (this) {
+			invalidate();
+			expectedGeneration = generation;
+		}
+
+		// The inputs must be collected here, as the tags may be rebound again while the builder runs
+		I inputs = inputCollector.get();
+		CompletableFuture<S> future = CompletableFuture.supplyAsync(() -> builder.apply(inputs), Util.getMainWorkerExecutor());
+
+		synchronized (this) {
+			if (generation == expectedGeneration) {
+				pending = future;
+			}
+		}
+	}
+
+	private synchronized void publish(S snapshot, int expectedGeneration) {
+		// don't overwrite the snapshot with one computed from outdated inputs
+		if (generation == expectedGeneration) {
+			this.snapshot = snapshot;
+			pending = null;
+		}
+	}
+}
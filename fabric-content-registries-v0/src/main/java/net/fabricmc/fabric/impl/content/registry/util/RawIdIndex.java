@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.content.registry.util;
+
+import net.minecraft.util.registry.Registry;
+
+/**
+ * A snapshot of the raw ids of a registry, used to index primitive lookup tables by raw id.
+ *
+ * <p>The snapshot remembers which object owned each raw id when it was taken, so that tables built
+ * against it can detect that the raw ids were remapped (for example by registry sync) and need to be rebuilt.
+ */
+public final class RawIdIndex<T> {
+	/**
+	 * Returned by {@link #indexOf} for entries without a raw id, which tables have no slot for.
+	 */
+	public static final int NOT_REGISTERED = -1;
+	/**
+	 * Returned by {@link #indexOf} when the raw id of the entry doesn't match the snapshot, which must then be taken again.
+	 */
+	public static final int STALE = -2;
+
+	private final Registry<T> registry;
+	private final Object[] owners;
+
+	public RawIdIndex(Registry<T> registry) {
+		int size = 0;
+
+		for (T entry : registry) {
+			size = Math.max(size, registry.getRawId(entry) + 1);
+		}
+
+		this.registry = registry;
+		this.owners = new Object[size];
+
+		for (T entry : registry) {
+			owners[registry.getRawId(entry)] = entry;
+		}
+	}
+
+	/**
+	 * @return the number of slots a table indexed by this snapshot must have
+	 */
+	public int size() {
+		return owners.length;
+	}
+
+	/**
+	 * @return the raw id of the entry at the time of the snapshot, {@link #NOT_REGISTERED} if it has no raw id,
+	 * or {@link #STALE} if the raw ids have changed since
+	 */
+	public int indexOf(T entry) {
+		int rawId = registry.getRawId(entry);
+
+		if (rawId < 0) {
+			return NOT_REGISTERED;
+		}
+
+		return rawId < owners.length && owners[rawId] == entry ? rawId : STALE;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		return (T) owners[index];
+	}
+}
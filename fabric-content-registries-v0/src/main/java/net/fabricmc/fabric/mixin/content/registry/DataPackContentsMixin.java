@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.mixin.content.registry;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import net.minecraft.server.DataPackContents;
+import net.minecraft.util.registry.DynamicRegistryManager;
+
+import net.fabricmc.fabric.impl.content.registry.TagDrivenSnapshot;
+
+/**
+ * Recompute the tag-driven content registries once the reloaded tags are bound to the registries.
+ * Reload listeners can't do this, as the tags are only bound after the whole resource reload is complete.
+ */
+@Mixin(DataPackContents.class)
+public class DataPackContentsMixin {
+	@Inject(method = "refresh", at = @At("TAIL"))
+	private void onTagsBound(DynamicRegistryManager dynamicRegistryManager, CallbackInfo ci) {
+		TagDrivenSnapshot.onTagsBound();
+	}
+}
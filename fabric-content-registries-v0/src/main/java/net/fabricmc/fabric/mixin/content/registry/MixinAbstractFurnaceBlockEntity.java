@@ -46,4 +46,29 @@ public class MixinAbstractFurnaceBlockEntity {
 	private Map<Item, Integer> getFuelTimeRedirect() {
 		return ((FuelRegistryImpl) FuelRegistry.INSTANCE).getFuelTimes();
 	}
+
+	@Redirect(method = "canUseAsFuel", at = @At(value = "INVOKE", target = "Ljava/util/Map;containsKey(Ljava/lang/Object;)Z"))
+	private static boolean canUseAsFuelContainsRedirect(Map<Item, Integer> fuelTimes, Object item) {
+		FuelRegistryImpl registry = (FuelRegistryImpl) FuelRegistry.INSTANCE;
+
+		// only use the raw id table if no one else changed the map
+		if (fuelTimes != registry.getFuelTimes() || !(item instanceof Item)) {
+			return fuelTimes.containsKey(item);
+		}
+
+		return registry.getFuelTime((Item) item) != FuelRegistryImpl.NOT_FUEL;
+	}
+
+	@Redirect(method = "getFuelTime", at = @At(value = "INVOKE", target = "Ljava/util/Map;getOrDefault(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;"))
+	private Object getFuelTimeGetRedirect(Map<Item, Integer> fuelTimes, Object item, Object defaultValue) {
+		FuelRegistryImpl registry = (FuelRegistryImpl) FuelRegistry.INSTANCE;
+
+		// only use the raw id table if no one else changed the map
+		if (fuelTimes != registry.getFuelTimes() || !(item instanceof Item)) {
+			return fuelTimes.getOrDefault(item, (Integer) defaultValue);
+		}
+
+		Integer fuelTime = registry.getBoxedFuelTime((Item) item);
+		return fuelTime != null ? fuelTime : defaultValue;
+	}
 }
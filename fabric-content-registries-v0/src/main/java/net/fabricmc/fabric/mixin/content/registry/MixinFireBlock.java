@@ -53,28 +53,28 @@ public class MixinFireBlock implements FireBlockHooks {
 
 	@Inject(at = @At("HEAD"), method = "getBurnChance", cancellable = true)
 	private void getFabricBurnChance(BlockState block, CallbackInfoReturnable info) {
-		FlammableBlockRegistry.Entry entry = fabric_registry.getFabric(block.getBlock());
+		long chances = fabric_registry.getFabricChances(block.getBlock());
 
-		if (entry != null) {
+		if (chances != FlammableBlockRegistryImpl.NO_ENTRY) {
 			// TODO: use a (BlockState -> int) with this as the default impl
 			if (block.contains(Properties.WATERLOGGED) && block.get(Properties.WATERLOGGED)) {
 				info.setReturnValue(0);
 			} else {
-				info.setReturnValue(entry.getBurnChance());
+				info.setReturnValue(FlammableBlockRegistryImpl.unpackBurnChance(chances));
 			}
 		}
 	}
 
 	@Inject(at = @At("HEAD"), method = "getSpreadChance", cancellable = true)
 	private void getFabricSpreadChance(BlockState block, CallbackInfoReturnable info) {
-		FlammableBlockRegistry.Entry entry = fabric_registry.getFabric(block.getBlock());
+		long chances = fabric_registry.getFabricChances(block.getBlock());
 
-		if (entry != null) {
+		if (chances != FlammableBlockRegistryImpl.NO_ENTRY) {
 			// TODO: use a (BlockState -> int) with this as the default impl
 			if (block.contains(Properties.WATERLOGGED) && block.get(Properties.WATERLOGGED)) {
 				info.setReturnValue(0);
 			} else {
-				info.setReturnValue(entry.getSpreadChance());
+				info.setReturnValue(FlammableBlockRegistryImpl.unpackSpreadChance(chances));
 			}
 		}
 	}
@@ -78,6 +78,35 @@ public final class ClientBlockEntityEvents {
 		}
 	});
 
+	/**
+	 * Called when all the block entities of a chunk are about to be unloaded from a ClientWorld at once,
+	 * for example when the chunk or the whole world is unloaded.
+	 *
+	 * <p>This is called before {@link #BLOCK_ENTITY_UNLOAD} is called for each of the block entities,
+	 * and allows handling mass unloads without going through the block entities one at a time.
+	 * The array is shared between all listeners and must not be modified.
+	 *
+	 * <p>When this event is called, the block entities are still present on the world.
+	 */
+	public static final Event<ClientBlockEntityEvents.BatchUnload> BLOCK_ENTITY_BATCH_UNLOAD = EventFactory.createArrayBacked(ClientBlockEntityEvents.BatchUnload.class, callbacks -> (blockEntities, world) -> {
+		if (EventFactory.isProfilingEnabled()) {
+			final Profiler profiler = world.getProfiler();
+			profiler.push("fabricClientBlockEntityBatchUnload");
+
+			for (ClientBlockEntityEvents.BatchUnload callback : callbacks) {
+				profiler.push(EventFactory.getHandlerName(callback));
+				callback.onBatchUnload(blockEntities, world);
+				profiler.pop();
+			}
+
+			profiler.pop();
+		} else {
+			for (ClientBlockEntityEvents.BatchUnload callback : callbacks) {
+				callback.onBatchUnload(blockEntities, world);
+			}
+		}
+	});
+
 	@FunctionalInterface
 	public interface Load {
 		void onLoad(BlockEntity blockEntity, ClientWorld world);
@@ -87,4 +116,9 @@ public final class ClientBlockEntityEvents {
 	public interface Unload {
 		void onUnload(BlockEntity blockEntity, ClientWorld world);
 	}
+
+	@FunctionalInterface
+	public interface BatchUnload {
+		void onBatchUnload(BlockEntity[] blockEntities, ClientWorld world);
+	}
 }
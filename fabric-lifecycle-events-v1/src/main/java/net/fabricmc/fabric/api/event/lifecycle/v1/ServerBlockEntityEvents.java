@@ -75,6 +75,35 @@ public final class ServerBlockEntityEvents {
 		}
 	});
 
+	/**
+	 * Called when all the block entities of a chunk are about to be unloaded from a ServerWorld at once,
+	 * for example when the chunk or the whole world is unloaded.
+	 *
+	 * <p>This is called before {@link #BLOCK_ENTITY_UNLOAD} is called for each of the block entities,
+	 * and allows handling mass unloads without going through the block entities one at a time.
+	 * The array is shared between all listeners and must not be modified.
+	 *
+	 * <p>When this event is called, the block entities are still present on the world.
+	 */
+	public static final Event<ServerBlockEntityEvents.BatchUnload> BLOCK_ENTITY_BATCH_UNLOAD = EventFactory.createArrayBacked(ServerBlockEntityEvents.BatchUnload.class, callbacks -> (blockEntities, world) -> {
+		if (EventFactory.isProfilingEnabled()) {
+			final Profiler profiler = world.getProfiler();
+			profiler.push("fabricServerBlockEntityBatchUnload");
+
+			for (ServerBlockEntityEvents.BatchUnload callback : callbacks) {
+				profiler.push(EventFactory.getHandlerName(callback));
+				callback.onBatchUnload(blockEntities, world);
+				profiler.pop();
+			}
+
+			profiler.pop();
+		} else {
+			for (ServerBlockEntityEvents.BatchUnload callback : callbacks) {
+				callback.onBatchUnload(blockEntities, world);
+			}
+		}
+	});
+
 	@FunctionalInterface
 	public interface Load {
 		void onLoad(BlockEntity blockEntity, ServerWorld world);
@@ -84,4 +113,9 @@ public final class ServerBlockEntityEvents {
 	public interface Unload {
 		void onUnload(BlockEntity blockEntity, ServerWorld world);
 	}
+
+	@FunctionalInterface
+	public interface BatchUnload {
+		void onBatchUnload(BlockEntity[] blockEntities, ServerWorld world);
+	}
 }
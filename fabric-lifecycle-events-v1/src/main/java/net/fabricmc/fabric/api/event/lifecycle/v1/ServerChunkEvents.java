@@ -22,6 +22,7 @@ import net.minecraft.world.chunk.WorldChunk;
 
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
+import net.fabricmc.fabric.impl.event.lifecycle.ServerChunkEventBatch;
 
 public final class ServerChunkEvents {
 	private ServerChunkEvents() {
@@ -75,6 +76,78 @@ public final class ServerChunkEvents {
 		}
 	});
 
+	/**
+	 * Called with all the chunks loaded into a ServerWorld since the last batch.
+	 * Batches are delivered once per world tick, at the very end of {@link ServerWorld#tick},
+	 * after {@link ServerTickEvents#END_WORLD_TICK}, and before the world is unloaded. Unlike {@link ServerTickEvents#END_WORLD_TICK},
+	 * they are also delivered in worlds which stopped ticking block entities because they have been empty for a while.
+	 *
+	 * <p>This is an opt-in alternative to {@link #CHUNK_LOAD} for listeners that benefit from handling many chunks at once,
+	 * chunks are only collected while this event has listeners. The array is shared between all listeners and must not be modified.
+	 * A chunk may be part of both a load and an unload batch if it was unloaded within the same tick,
+	 * in which case the load batch is delivered first.
+	 */
+	public static final Event<ServerChunkEvents.BatchLoad> CHUNK_BATCH_LOAD = EventFactory.createArrayBacked(ServerChunkEvents.BatchLoad.class, callbacks -> {
+		if (callbacks.length == 0) {
+			return ServerChunkEventBatch.EMPTY_BATCH_LOAD;
+		}
+
+		return (serverWorld, chunks) -> {
+			if (EventFactory.isProfilingEnabled()) {
+				final Profiler profiler = serverWorld.getProfiler();
+				profiler.push("fabricServerChunkBatchLoad");
+
+				for (ServerChunkEvents.BatchLoad callback : callbacks) {
+					profiler.push(EventFactory.getHandlerName(callback));
+					callback.onChunkBatchLoad(serverWorld, chunks);
+					profiler.pop();
+				}
+
+				profiler.pop();
+			} else {
+				for (ServerChunkEvents.BatchLoad callback : callbacks) {
+					callback.onChunkBatchLoad(serverWorld, chunks);
+				}
+			}
+		};
+	});
+
+	/**
+	 * Called with all the chunks unloaded from a ServerWorld since the last batch.
+	 * Batches are delivered once per world tick, at the very end of {@link ServerWorld#tick},
+	 * after {@link ServerTickEvents#END_WORLD_TICK}, and before the world is unloaded. Unlike {@link ServerTickEvents#END_WORLD_TICK},
+	 * they are also delivered in worlds which stopped ticking block entities because they have been empty for a while.
+	 *
+	 * <p>This is an opt-in alternative to {@link #CHUNK_UNLOAD} for listeners that benefit from handling many chunks at once,
+	 * chunks are only collected while this event has listeners. The array is shared between all listeners and must not be modified.
+	 *
+	 * <p>When this event is called, the chunks are no longer present in the world.
+	 */
+	public static final Event<ServerChunkEvents.BatchUnload> CHUNK_BATCH_UNLOAD = EventFactory.createArrayBacked(ServerChunkEvents.BatchUnload.class, callbacks -> {
+		if (callbacks.length == 0) {
+			return ServerChunkEventBatch.EMPTY_BATCH_UNLOAD;
+		}
+
+		return (serverWorld, chunks) -> {
+			if (EventFactory.isProfilingEnabled()) {
+				final Profiler profiler = serverWorld.getProfiler();
+				profiler.push("fabricServerChunkBatchUnload");
+
+				for (ServerChunkEvents.BatchUnload callback : callbacks) {
+					profiler.push(EventFactory.getHandlerName(callback));
+					callback.onChunkBatchUnload(serverWorld, chunks);
+					profiler.pop();
+				}
+
+				profiler.pop();
+			} else {
+				for (ServerChunkEvents.BatchUnload callback : callbacks) {
+					callback.onChunkBatchUnload(serverWorld, chunks);
+				}
+			}
+		};
+	});
+
 	@FunctionalInterface
 	public interface Load {
 		void onChunkLoad(ServerWorld world, WorldChunk chunk);
@@ -84,4 +157,14 @@ public final class ServerChunkEvents {
 	public interface Unload {
 		void onChunkUnload(ServerWorld world, WorldChunk chunk);
 	}
+
+	@FunctionalInterface
+	public interface BatchLoad {
+		void onChunkBatchLoad(ServerWorld world, WorldChunk[] chunks);
+	}
+
+	@FunctionalInterface
+	public interface BatchUnload {
+		void onChunkBatchUnload(ServerWorld world, WorldChunk[] chunks);
+	}
 }
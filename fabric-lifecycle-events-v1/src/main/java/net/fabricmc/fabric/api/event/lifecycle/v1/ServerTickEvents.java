@@ -22,6 +22,7 @@ import net.minecraft.util.profiler.Profiler;
 
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
+import net.fabricmc.fabric.impl.event.lifecycle.ServerTickTimingsImpl;
 
 public final class ServerTickEvents {
 	private ServerTickEvents() {
@@ -30,67 +31,109 @@ public final class ServerTickEvents {
 	/**
 	 * Called at the start of the server tick.
 	 */
-	public static final Event<StartTick> START_SERVER_TICK = EventFactory.createArrayBacked(StartTick.class, callbacks -> server -> {
-		if (EventFactory.isProfilingEnabled()) {
-			final Profiler profiler = server.getProfiler();
-			profiler.push("fabricStartServerTick");
-
-			for (StartTick event : callbacks) {
-				profiler.push(EventFactory.getHandlerName(event));
-				event.onStartTick(server);
-				profiler.pop();
-			}
+	public static final Event<StartTick> START_SERVER_TICK = EventFactory.createArrayBacked(StartTick.class, callbacks -> {
+		final ServerTickTimingsImpl.Timer[] timers = ServerTickTimingsImpl.getListenerTimers(ServerTickTimings.Phase.START_SERVER_TICK, callbacks);
+
+		return server -> {
+			if (EventFactory.isProfilingEnabled()) {
+				final Profiler profiler = server.getProfiler();
+				profiler.push("fabricStartServerTick");
 
-			profiler.pop();
-		} else {
-			for (StartTick event : callbacks) {
-				event.onStartTick(server);
+				for (StartTick event : callbacks) {
+					profiler.push(EventFactory.getHandlerName(event));
+					event.onStartTick(server);
+					profiler.pop();
+				}
+
+				profiler.pop();
+			} else if (ServerTickTimingsImpl.ENABLED) {
+				final long phaseStart = System.nanoTime();
+
+				for (int i = 0; i < callbacks.length; i++) {
+					final long start = System.nanoTime();
+					callbacks[i].onStartTick(server);
+					timers[i].record(System.nanoTime() - start);
+				}
+
+				ServerTickTimingsImpl.recordPhase(ServerTickTimings.Phase.START_SERVER_TICK, null, System.nanoTime() - phaseStart);
+			} else {
+				for (StartTick event : callbacks) {
+					event.onStartTick(server);
+				}
 			}
-		}
+		};
 	});
 
 	/**
 	 * Called at the end of the server tick.
 	 */
-	public static final Event<EndTick> END_SERVER_TICK = EventFactory.createArrayBacked(EndTick.class, callbacks -> server -> {
-		if (EventFactory.isProfilingEnabled()) {
-			final Profiler profiler = server.getProfiler();
-			profiler.push("fabricEndServerTick");
-
-			for (EndTick event : callbacks) {
-				profiler.push(EventFactory.getHandlerName(event));
-				event.onEndTick(server);
-				profiler.pop();
-			}
+	public static final Event<EndTick> END_SERVER_TICK = EventFactory.createArrayBacked(EndTick.class, callbacks -> {
+		final ServerTickTimingsImpl.Timer[] timers = ServerTickTimingsImpl.getListenerTimers(ServerTickTimings.Phase.END_SERVER_TICK, callbacks);
+
+		return server -> {
+			if (EventFactory.isProfilingEnabled()) {
+				final Profiler profiler = server.getProfiler();
+				profiler.push("fabricEndServerTick");
 
-			profiler.pop();
-		} else {
-			for (EndTick event : callbacks) {
-				event.onEndTick(server);
+				for (EndTick event : callbacks) {
+					profiler.push(EventFactory.getHandlerName(event));
+					event.onEndTick(server);
+					profiler.pop();
+				}
+
+				profiler.pop();
+			} else if (ServerTickTimingsImpl.ENABLED) {
+				final long phaseStart = System.nanoTime();
+
+				for (int i = 0; i < callbacks.length; i++) {
+					final long start = System.nanoTime();
+					callbacks[i].onEndTick(server);
+					timers[i].record(System.nanoTime() - start);
+				}
+
+				ServerTickTimingsImpl.recordPhase(ServerTickTimings.Phase.END_SERVER_TICK, null, System.nanoTime() - phaseStart);
+			} else {
+				for (EndTick event : callbacks) {
+					event.onEndTick(server);
+				}
 			}
-		}
+		};
 	});
 
 	/**
 	 * Called at the start of a ServerWorld's tick.
 	 */
-	public static final Event<StartWorldTick> START_WORLD_TICK = EventFactory.createArrayBacked(StartWorldTick.class, callbacks -> world -> {
-		if (EventFactory.isProfilingEnabled()) {
-			final Profiler profiler = world.getProfiler();
-			profiler.push("fabricStartServerWorldTick_" + world.getRegistryKey().getValue());
-
-			for (StartWorldTick callback : callbacks) {
-				profiler.push(EventFactory.getHandlerName(callback));
-				callback.onStartTick(world);
-				profiler.pop();
-			}
+	public static final Event<StartWorldTick> START_WORLD_TICK = EventFactory.createArrayBacked(StartWorldTick.class, callbacks -> {
+		final ServerTickTimingsImpl.Timer[] timers = ServerTickTimingsImpl.getListenerTimers(ServerTickTimings.Phase.START_WORLD_TICK, callbacks);
+
+		return world -> {
+			if (EventFactory.isProfilingEnabled()) {
+				final Profiler profiler = world.getProfiler();
+				profiler.push("fabricStartServerWorldTick_" + world.getRegistryKey().getValue());
 
-			profiler.pop();
-		} else {
-			for (StartWorldTick callback : callbacks) {
-				callback.onStartTick(world);
+				for (StartWorldTick callback : callbacks) {
+					profiler.push(EventFactory.getHandlerName(callback));
+					callback.onStartTick(world);
+					profiler.pop();
+				}
+
+				profiler.pop();
+			} else if (ServerTickTimingsImpl.ENABLED) {
+				final long phaseStart = System.nanoTime();
+
+				for (int i = 0; i < callbacks.length; i++) {
+					final long start = System.nanoTime();
+					callbacks[i].onStartTick(world);
+					timers[i].record(System.nanoTime() - start);
+				}
+
+				ServerTickTimingsImpl.recordPhase(ServerTickTimings.Phase.START_WORLD_TICK, world.getRegistryKey(), System.nanoTime() - phaseStart);
+			} else {
+				for (StartWorldTick callback : callbacks) {
+					callback.onStartTick(world);
+				}
 			}
-		}
+		};
 	});
 
 	/**
@@ -98,23 +141,37 @@ public final class ServerTickEvents {
 	 *
 	 * <p>End of world tick may be used to start async computations for the next tick.
 	 */
-	public static final Event<EndWorldTick> END_WORLD_TICK = EventFactory.createArrayBacked(EndWorldTick.class, callbacks -> world -> {
-		if (EventFactory.isProfilingEnabled()) {
-			final Profiler profiler = world.getProfiler();
-			profiler.push("fabricEndServerWorldTick_" + world.getRegistryKey().getValue());
-
-			for (EndWorldTick callback : callbacks) {
-				profiler.push(EventFactory.getHandlerName(callback));
-				callback.onEndTick(world);
-				profiler.pop();
-			}
+	public static final Event<EndWorldTick> END_WORLD_TICK = EventFactory.createArrayBacked(EndWorldTick.class, callbacks -> {
+		final ServerTickTimingsImpl.Timer[] timers = ServerTickTimingsImpl.getListenerTimers(ServerTickTimings.Phase.END_WORLD_TICK, callbacks);
+
+		return world -> {
+			if (EventFactory.isProfilingEnabled()) {
+				final Profiler profiler = world.getProfiler();
+				profiler.push("fabricEndServerWorldTick_" + world.getRegistryKey().getValue());
 
-			profiler.pop();
-		} else {
-			for (EndWorldTick callback : callbacks) {
-				callback.onEndTick(world);
+				for (EndWorldTick callback : callbacks) {
+					profiler.push(EventFactory.getHandlerName(callback));
+					callback.onEndTick(world);
+					profiler.pop();
+				}
+
+				profiler.pop();
+			} else if (ServerTickTimingsImpl.ENABLED) {
+				final long phaseStart = System.nanoTime();
+
+				for (int i = 0; i < callbacks.length; i++) {
+					final long start = System.nanoTime();
+					callbacks[i].onEndTick(world);
+					timers[i].record(System.nanoTime() - start);
+				}
+
+				ServerTickTimingsImpl.recordPhase(ServerTickTimings.Phase.END_WORLD_TICK, world.getRegistryKey(), System.nanoTime() - phaseStart);
+			} else {
+				for (EndWorldTick callback : callbacks) {
+					callback.onEndTick(world);
+				}
 			}
-		}
+		};
 	});
 
 	@FunctionalInterface
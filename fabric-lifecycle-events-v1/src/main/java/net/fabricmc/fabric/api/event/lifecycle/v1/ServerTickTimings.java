@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.api.event.lifecycle.v1;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import net.fabricmc.fabric.impl.event.lifecycle.ServerTickTimingsImpl;
+
+/**
+ * Timings of the work done by the listeners of {@link ServerTickEvents}, over a rolling window of the last ticks.
+ *
+ * <p>Each phase is measured as a whole, per world for the world tick phases, and for each registered listener.
+ * This allows telling the time spent in Fabric-dispatched mod code apart from the rest of the tick without an external profiler.
+ * The phases are also reported to Java Flight Recorder as {@code fabric.ServerTickPhase} events.
+ *
+ * <p>Timings are not collected while the vanilla profiler is profiling events, see {@link net.fabricmc.fabric.api.event.EventFactory#isProfilingEnabled()}.
+ * They can be disabled entirely with the {@code fabric.lifecycle.disableTickTimings} system property,
+ * and the size of the window, in ticks, set with the {@code fabric.lifecycle.tickTimingsWindow} system property, which defaults to 100.
+ */
+@ApiStatus.Experimental
+public final class ServerTickTimings {
+	private ServerTickTimings() {
+	}
+
+	/**
+	 * @return {@code true} if tick timings are collected, else {@code false}
+	 */
+	public static boolean isEnabled() {
+		return ServerTickTimingsImpl.ENABLED;
+	}
+
+	/**
+	 * Gets the timings of a server tick phase.
+	 *
+	 * @param phase a server tick phase
+	 * @return the timings, or {@code null} if the phase has not been measured yet
+	 * @throws IllegalArgumentException if the phase is a world tick phase
+	 */
+	@Nullable
+	public static Summary getPhaseTimings(Phase phase) {
+		return ServerTickTimingsImpl.getPhaseTimings(phase, null);
+	}
+
+	/**
+	 * Gets the timings of a world tick phase, for a given world.
+	 *
+	 * @param phase a world tick phase
+	 * @param world the key of the world
+	 * @return the timings, or {@code null} if the phase has not been measured yet for this world
+	 * @throws IllegalArgumentException if the phase is not a world tick phase
+	 */
+	@Nullable
+	public static Summary getPhaseTimings(Phase phase, RegistryKey<World> world) {
+		return ServerTickTimingsImpl.getPhaseTimings(phase, world);
+	}
+
+	/**
+	 * Gets the timings of every listener registered to a phase, across all worlds for the world tick phases.
+	 *
+	 * @param phase the phase
+	 * @return the timings of the listeners that have been measured, keyed by {@linkplain net.fabricmc.fabric.api.event.EventFactory#getHandlerName(Object) handler name}
+	 */
+	public static Map<String, Summary> getListenerTimings(Phase phase) {
+		return ServerTickTimingsImpl.getListenerTimings(phase);
+	}
+
+	public enum Phase {
+		START_SERVER_TICK(false),
+		END_SERVER_TICK(false),
+		START_WORLD_TICK(true),
+		END_WORLD_TICK(true);
+
+		private final boolean worldPhase;
+
+		Phase(boolean worldPhase) {
+			this.worldPhase = worldPhase;
+		}
+
+		/**
+		 * @return {@code true} if this phase is invoked once per world, else {@code false}
+		 */
+		public boolean isWorldPhase() {
+			return this.worldPhase;
+		}
+	}
+
+	/**
+	 * Timings over the rolling window.
+	 *
+	 * @param samples   the amount of measured ticks in the window
+	 * @param p50Nanos  the median time, in nanoseconds
+	 * @param p99Nanos  the 99th percentile time, in nanoseconds
+	 * @param maxNanos  the maximum time, in nanoseconds
+	 */
+	public record Summary(int samples, long p50Nanos, long p99Nanos, long maxNanos) {
+	}
+}
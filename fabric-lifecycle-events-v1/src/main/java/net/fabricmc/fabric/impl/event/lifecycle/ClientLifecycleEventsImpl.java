@@ -17,6 +17,8 @@
 package net.fabricmc.fabric.impl.event.lifecycle;
 
 import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.world.chunk.WorldChunk;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
@@ -37,10 +39,29 @@ public final class ClientLifecycleEventsImpl implements ClientModInitializer {
 			((LoadedChunksCache) world).fabric_markUnloaded(chunk);
 		});
 
-		ClientChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
-			for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
-				ClientBlockEntityEvents.BLOCK_ENTITY_UNLOAD.invoker().onUnload(blockEntity, world);
-			}
-		});
+		ClientChunkEvents.CHUNK_UNLOAD.register(ClientLifecycleEventsImpl::unloadBlockEntities);
+	}
+
+	/**
+	 * Fires the block entity unload events for all the loaded chunks of a world.
+	 */
+	public static void unloadBlockEntities(ClientWorld world) {
+		for (WorldChunk chunk : ((LoadedChunksCache) world).fabric_getLoadedChunks().values()) {
+			unloadBlockEntities(world, chunk);
+		}
+	}
+
+	private static void unloadBlockEntities(ClientWorld world, WorldChunk chunk) {
+		if (chunk.getBlockEntities().isEmpty()) {
+			return;
+		}
+
+		BlockEntity[] blockEntities = chunk.getBlockEntities().values().toArray(LifecycleEventsImpl.NO_BLOCK_ENTITIES);
+		ClientBlockEntityEvents.BLOCK_ENTITY_BATCH_UNLOAD.invoker().onBatchUnload(blockEntities, world);
+		ClientBlockEntityEvents.Unload unload = ClientBlockEntityEvents.BLOCK_ENTITY_UNLOAD.invoker();
+
+		for (BlockEntity blockEntity : blockEntities) {
+			unload.onUnload(blockEntity, world);
+		}
 	}
 }
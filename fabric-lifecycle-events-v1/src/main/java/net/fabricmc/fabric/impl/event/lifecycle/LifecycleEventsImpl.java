@@ -18,15 +18,19 @@ package net.fabricmc.fabric.impl.event.lifecycle;
 
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.chunk.WorldChunk;
 
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 
 public final class LifecycleEventsImpl implements ModInitializer {
+	public static final BlockEntity[] NO_BLOCK_ENTITIES = new BlockEntity[0];
+
 	@Override
 	public void onInitialize() {
 		// Part of impl for block entity events
@@ -38,25 +42,47 @@ public final class LifecycleEventsImpl implements ModInitializer {
 			((LoadedChunksCache) world).fabric_markUnloaded(chunk);
 		});
 
-		// Fire block entity unload events.
-		// This handles the edge case where going through a portal will cause block entities to unload without warning.
+		// Part of impl for batched chunk events
+		ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+			((ServerChunkEventBatch.Holder) world).fabric_getChunkEventBatch().onLoad(chunk);
+		});
+
 		ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
-			for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
-				ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.invoker().onUnload(blockEntity, world);
-			}
+			((ServerChunkEventBatch.Holder) world).fabric_getChunkEventBatch().onUnload(chunk);
 		});
 
+		// Fire block entity unload events.
+		// This handles the edge case where going through a portal will cause block entities to unload without warning.
+		ServerChunkEvents.CHUNK_UNLOAD.register(LifecycleEventsImpl::unloadBlockEntities);
+
 		// We use the world unload event so worlds that are dynamically hot(un)loaded get (block) entity unload events fired when shut down.
 		ServerWorldEvents.UNLOAD.register((server, world) -> {
-			for (WorldChunk chunk : ((LoadedChunksCache) world).fabric_getLoadedChunks()) {
-				for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
-					ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.invoker().onUnload(blockEntity, world);
-				}
+			((ServerChunkEventBatch.Holder) world).fabric_getChunkEventBatch().flush(world);
+
+			for (WorldChunk chunk : ((LoadedChunksCache) world).fabric_getLoadedChunks().values()) {
+				unloadBlockEntities(world, chunk);
 			}
 
 			for (Entity entity : world.iterateEntities()) {
 				ServerEntityEvents.ENTITY_UNLOAD.invoker().onUnload(entity, world);
 			}
 		});
+
+		// Don't carry tick timings over to the next integrated server
+		ServerLifecycleEvents.SERVER_STOPPED.register(server -> ServerTickTimingsImpl.clear());
+	}
+
+	private static void unloadBlockEntities(ServerWorld world, WorldChunk chunk) {
+		if (chunk.getBlockEntities().isEmpty()) {
+			return;
+		}
+
+		BlockEntity[] blockEntities = chunk.getBlockEntities().values().toArray(NO_BLOCK_ENTITIES);
+		ServerBlockEntityEvents.BLOCK_ENTITY_BATCH_UNLOAD.invoker().onBatchUnload(blockEntities, world);
+		ServerBlockEntityEvents.Unload unload = ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.invoker();
+
+		for (BlockEntity blockEntity : blockEntities) {
+			unload.onUnload(blockEntity, world);
+		}
 	}
 }
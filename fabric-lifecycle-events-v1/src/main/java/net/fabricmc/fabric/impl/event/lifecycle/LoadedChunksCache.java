@@ -16,7 +16,7 @@
 
 package net.fabricmc.fabric.impl.event.lifecycle;
 
-import java.util.Set;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 
 import net.minecraft.world.chunk.WorldChunk;
 
@@ -24,7 +24,10 @@ import net.minecraft.world.chunk.WorldChunk;
  * A simple marker interface which holds references to chunks which block entities may be loaded or unloaded from.
  */
 public interface LoadedChunksCache {
-	Set<WorldChunk> fabric_getLoadedChunks();
+	/**
+	 * @return the loaded chunks, keyed by {@link net.minecraft.util.math.ChunkPos#toLong() chunk position}
+	 */
+	Long2ObjectMap<WorldChunk> fabric_getLoadedChunks();
 
 	/**
 	 * Marks a chunk as loaded in a world.
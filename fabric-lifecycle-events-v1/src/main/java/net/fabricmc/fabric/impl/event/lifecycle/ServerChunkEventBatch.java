@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.event.lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.chunk.WorldChunk;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+
+/**
+ * Collects the chunks loaded and unloaded in a world between two deliveries of the batched chunk events.
+ */
+public final class ServerChunkEventBatch {
+	public static final ServerChunkEvents.BatchLoad EMPTY_BATCH_LOAD = (world, chunks) -> { };
+	public static final ServerChunkEvents.BatchUnload EMPTY_BATCH_UNLOAD = (world, chunks) -> { };
+	private static final WorldChunk[] NO_CHUNKS = new WorldChunk[0];
+
+	private final List<WorldChunk> loaded = new ArrayList<>();
+	private final List<WorldChunk> unloaded = new ArrayList<>();
+
+	public void onLoad(WorldChunk chunk) {
+		if (ServerChunkEvents.CHUNK_BATCH_LOAD.invoker() != EMPTY_BATCH_LOAD) {
+			this.loaded.add(chunk);
+		}
+	}
+
+	public void onUnload(WorldChunk chunk) {
+		if (ServerChunkEvents.CHUNK_BATCH_UNLOAD.invoker() != EMPTY_BATCH_UNLOAD) {
+			this.unloaded.add(chunk);
+		}
+	}
+
+	public void flush(ServerWorld world) {
+		if (!this.loaded.isEmpty()) {
+			WorldChunk[] chunks = this.loaded.toArray(NO_CHUNKS);
+			this.loaded.clear();
+			ServerChunkEvents.CHUNK_BATCH_LOAD.invoker().onChunkBatchLoad(world, chunks);
+		}
+
+		if (!this.unloaded.isEmpty()) {
+			WorldChunk[] chunks = this.unloaded.toArray(NO_CHUNKS);
+			this.unloaded.clear();
+			ServerChunkEvents.CHUNK_BATCH_UNLOAD.invoker().onChunkBatchUnload(world, chunks);
+		}
+	}
+
+	/**
+	 * Implemented by {@link ServerWorld} to hold its batch.
+	 */
+	public interface Holder {
+		ServerChunkEventBatch fabric_getChunkEventBatch();
+	}
+}
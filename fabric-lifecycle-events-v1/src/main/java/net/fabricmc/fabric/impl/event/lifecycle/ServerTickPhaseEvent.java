@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.event.lifecycle;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("fabric.ServerTickPhase")
+@Label("Server Tick Phase")
+@Category({"Fabric", "Lifecycle"})
+@Description("Time spent running the listeners of a Fabric server tick event")
+@StackTrace(false)
+public class ServerTickPhaseEvent extends Event {
+	@Label("Phase")
+	public String phase;
+
+	@Label("World")
+	public String world;
+
+	@Label("Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long time;
+}
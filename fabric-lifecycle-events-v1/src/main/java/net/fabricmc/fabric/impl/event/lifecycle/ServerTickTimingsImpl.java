@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.event.lifecycle;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.util.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickTimings;
+
+public final class ServerTickTimingsImpl {
+	public static final boolean ENABLED = !Boolean.getBoolean("fabric.lifecycle.disableTickTimings");
+	private static final int WINDOW = Math.max(1, Integer.getInteger("fabric.lifecycle.tickTimingsWindow", 100));
+
+	private static final Timer[] SERVER_PHASE_TIMERS = new Timer[ServerTickTimings.Phase.values().length];
+	private static final Map<RegistryKey<World>, Timer[]> WORLD_PHASE_TIMERS = new ConcurrentHashMap<>();
+	private static final Map<ServerTickTimings.Phase, Map<Object, Timer>> LISTENER_TIMERS = new EnumMap<>(ServerTickTimings.Phase.class);
+
+	static {
+		for (ServerTickTimings.Phase phase : ServerTickTimings.Phase.values()) {
+			SERVER_PHASE_TIMERS[phase.ordinal()] = new Timer(phase.name());
+			LISTENER_TIMERS.put(phase, new ConcurrentHashMap<>());
+		}
+	}
+
+	private ServerTickTimingsImpl() {
+	}
+
+	/**
+	 * Gets the timers of the listeners of a phase, to be resolved once by the invoker factory.
+	 */
+	public static Timer[] getListenerTimers(ServerTickTimings.Phase phase, Object[] callbacks) {
+		Map<Object, Timer> timers = LISTENER_TIMERS.get(phase);
+		Timer[] ret = new Timer[callbacks.length];
+
+		for (int i = 0; i < callbacks.length; i++) {
+			ret[i] = timers.computeIfAbsent(callbacks[i], callback -> new Timer(EventFactory.getHandlerName(callback), callback, timers));
+		}
+
+		return ret;
+	}
+
+	public static void recordPhase(ServerTickTimings.Phase phase, @Nullable RegistryKey<World> world, long nanos) {
+		Timer[] timers = world == null ? SERVER_PHASE_TIMERS : WORLD_PHASE_TIMERS.computeIfAbsent(world, key -> {
+			Timer[] ret = new Timer[ServerTickTimings.Phase.values().length];
+
+			for (ServerTickTimings.Phase p : ServerTickTimings.Phase.values()) {
+				ret[p.ordinal()] = new Timer(p.name());
+			}
+
+			return ret;
+		});
+
+		timers[phase.ordinal()].record(nanos);
+
+		ServerTickPhaseEvent event = new ServerTickPhaseEvent();
+
+		if (event.isEnabled()) {
+			event.phase = phase.name();
+			event.world = world != null ? world.getValue().toString() : null;
+			event.time = nanos;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Forgets the timings of the server that stopped, along with its worlds and the listeners it measured.
+	 */
+	public static void clear() {
+		WORLD_PHASE_TIMERS.clear();
+
+		for (Timer timer : SERVER_PHASE_TIMERS) {
+			timer.reset();
+		}
+
+		for (Map<Object, Timer> timers : LISTENER_TIMERS.values()) {
+			for (Timer timer : timers.values()) {
+				timer.reset();
+			}
+
+			timers.clear();
+		}
+	}
+
+	@Nullable
+	public static ServerTickTimings.Summary getPhaseTimings(ServerTickTimings.Phase phase, @Nullable RegistryKey<World> world) {
+		if (phase.isWorldPhase() != (world != null)) {
+			throw new IllegalArgumentException("Phase " + phase + (phase.isWorldPhase() ? " requires" : " does not take") + " a world");
+		}
+
+		Timer[] timers = world == null ? SERVER_PHASE_TIMERS : WORLD_PHASE_TIMERS.get(world);
+		return timers != null ? timers[phase.ordinal()].summarize() : null;
+	}
+
+	public static Map<String, ServerTickTimings.Summary> getListenerTimings(ServerTickTimings.Phase phase) {
+		Map<String, ServerTickTimings.Summary> ret = new LinkedHashMap<>();
+
+		for (Timer timer : LISTENER_TIMERS.get(phase).values()) {
+			ServerTickTimings.Summary summary = timer.summarize();
+
+			if (summary != null) {
+				ret.put(timer.name, summary);
+			}
+		}
+
+		return Collections.unmodifiableMap(ret);
+	}
+
+	/**
+	 * A ring buffer of the last {@link #WINDOW} samples. Only written from the server thread.
+	 *
+	 * <p>Listener timers are resolved once by the invokers, so they are reset rather than dropped by {@link #clear},
+	 * and put back into the listener timers of their phase when they are used again.
+	 */
+	public static final class Timer {
+		private final String name;
+		@Nullable
+		private final Object listener;
+		@Nullable
+		private final Map<Object, Timer> listenerTimers;
+		private final long[] samples = new long[WINDOW];
+		private int next;
+		private volatile int count;
+		private boolean listed = true;
+
+		Timer(String name) {
+			this(name, null, null);
+		}
+
+		Timer(String name, @Nullable Object listener, @Nullable Map<Object, Timer> listenerTimers) {
+			this.name = name;
+			this.listener = listener;
+			this.listenerTimers = listenerTimers;
+		}
+
+		public void record(long nanos) {
+			if (!this.listed) {
+				this.listed = true;
+				this.listenerTimers.putIfAbsent(this.listener, this);
+			}
+
+			this.samples[this.next] = nanos;
+			this.next = (this.next + 1) % this.samples.length;
+
+			if (this.count < this.samples.length) {
+				this.count++;
+			}
+		}
+
+		void reset() {
+			this.next = 0;
+			this.count = 0;
+			this.listed = this.listenerTimers == null;
+		}
+
+		@Nullable
+		ServerTickTimings.Summary summarize() {
+			int count = this.count;
+
+			if (count == 0) {
+				return null;
+			}
+
+			long[] sorted = Arrays.copyOf(this.samples, count);
+			Arrays.sort(sorted);
+			return new ServerTickTimings.Summary(count, sorted[(count - 1) / 2], sorted[(int) ((count - 1) * 0.99)], sorted[count - 1]);
+		}
+	}
+}
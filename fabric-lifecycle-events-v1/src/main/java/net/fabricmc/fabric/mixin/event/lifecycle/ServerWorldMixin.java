@@ -20,6 +20,7 @@ import java.util.function.BooleanSupplier;
 
 import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -27,12 +28,27 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import net.minecraft.server.world.ServerWorld;
 
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.impl.event.lifecycle.ServerChunkEventBatch;
 
 @Mixin(ServerWorld.class)
-public abstract class ServerWorldMixin {
+public abstract class ServerWorldMixin implements ServerChunkEventBatch.Holder {
+	@Unique
+	private final ServerChunkEventBatch chunkEventBatch = new ServerChunkEventBatch();
+
 	// Make sure "insideBlockTick" is true before we call the start tick, so inject after it is set
 	@Inject(method = "tick", at = @At(value = "FIELD", target = "Lnet/minecraft/server/world/ServerWorld;inBlockTick:Z", opcode = Opcodes.PUTFIELD, ordinal = 0, shift = At.Shift.AFTER))
 	private void startWorldTick(BooleanSupplier shouldKeepTicking, CallbackInfo ci) {
 		ServerTickEvents.START_WORLD_TICK.invoker().onStartTick((ServerWorld) (Object) this);
 	}
+
+	// Not after the block entities like END_WORLD_TICK, which are skipped once the world has been empty for a while while chunks still unload
+	@Inject(method = "tick", at = @At("RETURN"))
+	private void endWorldTick(BooleanSupplier shouldKeepTicking, CallbackInfo ci) {
+		this.chunkEventBatch.flush((ServerWorld) (Object) this);
+	}
+
+	@Override
+	public ServerChunkEventBatch fabric_getChunkEventBatch() {
+		return this.chunkEventBatch;
+	}
 }
@@ -16,9 +16,8 @@
 
 package net.fabricmc.fabric.mixin.event.lifecycle;
 
-import java.util.HashSet;
-import java.util.Set;
-
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -43,7 +42,7 @@ public abstract class WorldMixin implements LoadedChunksCache {
 	public abstract Profiler getProfiler();
 
 	@Unique
-	private final Set<WorldChunk> loadedChunks = new HashSet<>();
+	private final Long2ObjectMap<WorldChunk> loadedChunks = new Long2ObjectOpenHashMap<>();
 
 	@Inject(at = @At("RETURN"), method = "tickBlockEntities")
 	protected void tickWorldAfterBlockEntities(CallbackInfo ci) {
@@ -53,17 +52,18 @@ public abstract class WorldMixin implements LoadedChunksCache {
 	}
 
 	@Override
-	public Set<WorldChunk> fabric_getLoadedChunks() {
+	public Long2ObjectMap<WorldChunk> fabric_getLoadedChunks() {
 		return this.loadedChunks;
 	}
 
 	@Override
 	public void fabric_markLoaded(WorldChunk chunk) {
-		this.loadedChunks.add(chunk);
+		this.loadedChunks.put(chunk.getPos().toLong(), chunk);
 	}
 
 	@Override
 	public void fabric_markUnloaded(WorldChunk chunk) {
-		this.loadedChunks.remove(chunk);
+		// Only remove the chunk if it has not been replaced by another one at the same position.
+		this.loadedChunks.remove(chunk.getPos().toLong(), chunk);
 	}
 }
@@ -67,7 +67,7 @@ public final class ServerBlockEntityLifecycleTests implements ModInitializer {
 				for (ServerWorld world : minecraftServer.getWorlds()) {
 					int worldEntities = 0;
 
-					for (WorldChunk chunk : ((LoadedChunksCache) world).fabric_getLoadedChunks()) {
+					for (WorldChunk chunk : ((LoadedChunksCache) world).fabric_getLoadedChunks().values()) {
 						worldEntities += chunk.getBlockEntities().size();
 					}
 
@@ -64,7 +64,7 @@ public final class ClientBlockEntityLifecycleTests implements ClientModInitializ
 				if (PRINT_CLIENT_BLOCKENTITY_MESSAGES) {
 					logger.info("[CLIENT] Tracked BlockEntities:" + this.clientBlockEntities.size() + " Ticked at: " + this.clientTicks + "ticks");
 
-					for (WorldChunk chunk : ((LoadedChunksCache) client.world).fabric_getLoadedChunks()) {
+					for (WorldChunk chunk : ((LoadedChunksCache) client.world).fabric_getLoadedChunks().values()) {
 						blockEntities += chunk.getBlockEntities().size();
 					}
 
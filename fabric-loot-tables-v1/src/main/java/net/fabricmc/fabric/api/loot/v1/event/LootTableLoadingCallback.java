@@ -16,6 +16,11 @@
 
 package net.fabricmc.fabric.api.loot.v1.event;
 
+import java.util.Collection;
+import java.util.Set;
+
+import org.jetbrains.annotations.ApiStatus;
+
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
 import net.minecraft.loot.LootManager;
@@ -24,10 +29,15 @@ import net.minecraft.loot.LootTable;
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
 import net.fabricmc.fabric.api.loot.v1.FabricLootSupplierBuilder;
+import net.fabricmc.fabric.impl.loot.table.FilteredLootTableLoadingCallback;
+import net.fabricmc.fabric.impl.loot.table.LootTableLoadingInvoker;
 
 /**
  * An event handler that is called when loot tables are loaded.
  * Use {@link #EVENT} to register instances.
+ *
+ * <p>Callbacks that only modify some loot tables should be wrapped with {@link #forIds} or {@link #forNamespaces}
+ * before registering them: loot tables no callback is interested in are then left as is, without being copied to a builder.
  */
 @FunctionalInterface
 public interface LootTableLoadingCallback {
@@ -38,12 +48,32 @@ public interface LootTableLoadingCallback {
 
 	Event<LootTableLoadingCallback> EVENT = EventFactory.createArrayBacked(
 			LootTableLoadingCallback.class,
-			(listeners) -> (resourceManager, manager, id, supplier, setter) -> {
-				for (LootTableLoadingCallback callback : listeners) {
-					callback.onLootTableLoading(resourceManager, manager, id, supplier, setter);
-				}
-			}
+			LootTableLoadingInvoker::new
 	);
 
+	/**
+	 * Returns a callback that only gets called for the loot tables with the given ids.
+	 *
+	 * @param ids      the ids of the loot tables the callback is interested in
+	 * @param callback the callback
+	 * @return the filtered callback, to register to {@link #EVENT}
+	 */
+	@ApiStatus.Experimental
+	static LootTableLoadingCallback forIds(Collection<Identifier> ids, LootTableLoadingCallback callback) {
+		return new FilteredLootTableLoadingCallback(Set.copyOf(ids), Set.of(), callback);
+	}
+
+	/**
+	 * Returns a callback that only gets called for the loot tables in the given namespaces.
+	 *
+	 * @param namespaces the namespaces of the loot tables the callback is interested in
+	 * @param callback   the callback
+	 * @return the filtered callback, to register to {@link #EVENT}
+	 */
+	@ApiStatus.Experimental
+	static LootTableLoadingCallback forNamespaces(Collection<String> namespaces, LootTableLoadingCallback callback) {
+		return new FilteredLootTableLoadingCallback(Set.of(), Set.copyOf(namespaces), callback);
+	}
+
 	void onLootTableLoading(ResourceManager resourceManager, LootManager manager, Identifier id, FabricLootSupplierBuilder supplier, LootTableSetter setter);
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.loot.table;
+
+import java.util.Set;
+
+import net.minecraft.loot.LootManager;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+
+import net.fabricmc.fabric.api.loot.v1.FabricLootSupplierBuilder;
+import net.fabricmc.fabric.api.loot.v1.event.LootTableLoadingCallback;
+
+/**
+ * A callback that is only interested in the loot tables with the given ids or in the given namespaces.
+ */
+public record FilteredLootTableLoadingCallback(Set<Identifier> ids, Set<String> namespaces, LootTableLoadingCallback delegate) implements LootTableLoadingCallback {
+	public boolean appliesTo(Identifier id) {
+		return ids.contains(id) || namespaces.contains(id.getNamespace());
+	}
+
+	@Override
+	public void onLootTableLoading(ResourceManager resourceManager, LootManager manager, Identifier id, FabricLootSupplierBuilder supplier, LootTableSetter setter) {
+		if (appliesTo(id)) {
+			delegate.onLootTableLoading(resourceManager, manager, id, supplier, setter);
+		}
+	}
+}
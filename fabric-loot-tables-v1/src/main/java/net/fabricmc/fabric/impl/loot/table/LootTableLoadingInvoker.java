@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.loot.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableMap;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.loot.LootManager;
+import net.minecraft.loot.LootTable;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.fabricmc.fabric.api.loot.v1.FabricLootSupplierBuilder;
+import net.fabricmc.fabric.api.loot.v1.event.LootTableLoadingCallback;
+
+/**
+ * The invoker of {@link LootTableLoadingCallback#EVENT}, which only creates builders for the loot tables that
+ * at least one callback is interested in, and measures the time spent in each callback.
+ */
+public final class LootTableLoadingInvoker implements LootTableLoadingCallback {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LootTableLoadingInvoker.class);
+	/**
+	 * Modifies independent loot tables in parallel on the worker executor. This is opt-in, since callbacks are not required to be thread-safe.
+	 */
+	private static final boolean PARALLEL = Boolean.getBoolean("fabric.loot.parallelTableLoading");
+
+	private final LootTableLoadingCallback[] listeners;
+	private final boolean anyUnfiltered;
+
+	public LootTableLoadingInvoker(LootTableLoadingCallback[] listeners) {
+		this.listeners = listeners;
+		boolean anyUnfiltered = false;
+
+		for (int i = 0; i < listeners.length; i++) {
+			anyUnfiltered |= !(listeners[i] instanceof FilteredLootTableLoadingCallback);
+		}
+
+		this.anyUnfiltered = anyUnfiltered;
+	}
+
+	/**
+	 * @return whether any callback is interested in the loot table
+	 */
+	public boolean appliesTo(Identifier id) {
+		if (anyUnfiltered) {
+			return true;
+		}
+
+		for (LootTableLoadingCallback listener : listeners) {
+			if (((FilteredLootTableLoadingCallback) listener).appliesTo(id)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void onLootTableLoading(ResourceManager resourceManager, LootManager manager, Identifier id, FabricLootSupplierBuilder supplier, LootTableSetter setter) {
+		invoke(resourceManager, manager, id, supplier, setter, null);
+	}
+
+	/**
+	 * @param listenerNanos the time spent in each callback during the current reload, or {@code null} to not measure it
+	 */
+	private void invoke(ResourceManager resourceManager, LootManager manager, Identifier id, FabricLootSupplierBuilder supplier, LootTableSetter setter, @Nullable LongAdder[] listenerNanos) {
+		for (int i = 0; i < listeners.length; i++) {
+			LootTableLoadingCallback listener = listeners[i];
+
+			if (listener instanceof FilteredLootTableLoadingCallback filtered && !filtered.appliesTo(id)) {
+				continue;
+			}
+
+			if (listenerNanos == null) {
+				listener.onLootTableLoading(resourceManager, manager, id, supplier, setter);
+				continue;
+			}
+
+			long start = System.nanoTime();
+			listener.onLootTableLoading(resourceManager, manager, id, supplier, setter);
+			listenerNanos[i].add(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Lets the callbacks modify the loot tables after they were loaded.
+	 *
+	 * @return the modified loot tables, in the same order
+	 */
+	public Map<Identifier, LootTable> modifyTables(Map<Identifier, LootTable> tables, ResourceManager resourceManager, LootManager manager) {
+		if (listeners.length == 0) {
+			return tables;
+		}
+
+		Stopwatch sw = Stopwatch.createStarted();
+
+		// Per reload, as reloads may overlap
+		LongAdder[] listenerNanos = new LongAdder[listeners.length];
+
+		for (int i = 0; i < listenerNanos.length; i++) {
+			listenerNanos[i] = new LongAdder();
+		}
+
+		List<Map.Entry<Identifier, LootTable>> entries = new ArrayList<>(tables.entrySet());
+		LootTable[] modified = new LootTable[entries.size()];
+		int modifiedCount = 0;
+
+		if (PARALLEL) {
+			List<CompletableFuture<LootTable>> futures = new ArrayList<>(entries.size());
+
+			for (Map.Entry<Identifier, LootTable> entry : entries) {
+				futures.add(appliesTo(entry.getKey()) ? CompletableFuture.supplyAsync(() -> modifyTable(entry.getKey(), entry.getValue(), resourceManager, manager, listenerNanos), Util.getMainWorkerExecutor()) : null);
+			}
+
+			try {
+				for (int i = 0; i < futures.size(); i++) {
+					if (futures.get(i) != null) {
+						modified[i] = futures.get(i).join();
+					}
+				}
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				} else if (e.getCause() instanceof Error error) {
+					throw error;
+				}
+
+				throw e;
+			}
+		} else {
+			for (int i = 0; i < entries.size(); i++) {
+				Map.Entry<Identifier, LootTable> entry = entries.get(i);
+
+				if (appliesTo(entry.getKey())) {
+					modified[i] = modifyTable(entry.getKey(), entry.getValue(), resourceManager, manager, listenerNanos);
+				}
+			}
+		}
+
+		ImmutableMap.Builder<Identifier, LootTable> builder = ImmutableMap.builderWithExpectedSize(entries.size());
+
+		for (int i = 0; i < entries.size(); i++) {
+			if (modified[i] != null) {
+				modifiedCount++;
+				builder.put(entries.get(i).getKey(), modified[i]);
+			} else {
+				// No callback is interested in this table, keep it as is
+				builder.put(entries.get(i));
+			}
+		}
+
+		LOGGER.debug("Passed {} of {} loot tables to {} callbacks in {}", modifiedCount, entries.size(), listeners.length, sw);
+
+		if (LOGGER.isDebugEnabled()) {
+			for (int i = 0; i < listeners.length; i++) {
+				LOGGER.debug("Loot table callback {} took {} ms", getHandlerName(listeners[i]), TimeUnit.NANOSECONDS.toMillis(listenerNanos[i].sum()));
+			}
+		}
+
+		return builder.build();
+	}
+
+	private static String getHandlerName(LootTableLoadingCallback listener) {
+		if (listener instanceof FilteredLootTableLoadingCallback filtered) {
+			return EventFactory.getHandlerName(filtered.delegate());
+		}
+
+		return EventFactory.getHandlerName(listener);
+	}
+
+	private LootTable modifyTable(Identifier id, LootTable table, ResourceManager resourceManager, LootManager manager, LongAdder[] listenerNanos) {
+		FabricLootSupplierBuilder builder = FabricLootSupplierBuilder.of(table);
+		LootTable[] replacement = new LootTable[1];
+
+		invoke(resourceManager, manager, id, builder, supplier -> replacement[0] = supplier, listenerNanos);
+
+		return replacement[0] != null ? replacement[0] : builder.build();
+	}
+}
@@ -16,10 +16,8 @@
 
 package net.fabricmc.fabric.mixin.loot.table;
 
-import java.util.HashMap;
 import java.util.Map;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonObject;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -33,8 +31,8 @@ import net.minecraft.util.profiler.Profiler;
 import net.minecraft.loot.LootManager;
 import net.minecraft.loot.LootTable;
 
-import net.fabricmc.fabric.api.loot.v1.FabricLootSupplierBuilder;
 import net.fabricmc.fabric.api.loot.v1.event.LootTableLoadingCallback;
+import net.fabricmc.fabric.impl.loot.table.LootTableLoadingInvoker;
 
 @Mixin(LootManager.class)
 public class MixinLootManager {
@@ -42,19 +40,7 @@ public class MixinLootManager {
 
 	@Inject(method = "apply", at = @At("RETURN"))
 	private void apply(Map<Identifier, JsonObject> objectMap, ResourceManager manager, Profiler profiler, CallbackInfo info) {
-		Map<Identifier, LootTable> newSuppliers = new HashMap<>();
-
-		tables.forEach((id, supplier) -> {
-			FabricLootSupplierBuilder builder = FabricLootSupplierBuilder.of(supplier);
-
-			//noinspection ConstantConditions
-			LootTableLoadingCallback.EVENT.invoker().onLootTableLoading(
-					manager, (LootManager) (Object) this, id, builder, (s) -> newSuppliers.put(id, s)
-			);
-
-			newSuppliers.computeIfAbsent(id, (i) -> builder.build());
-		});
-
-		tables = ImmutableMap.copyOf(newSuppliers);
+		//noinspection ConstantConditions
+		tables = ((LootTableLoadingInvoker) LootTableLoadingCallback.EVENT.invoker()).modifyTables(tables, manager, (LootManager) (Object) this);
 	}
 }
@@ -16,6 +16,8 @@
 
 package net.fabricmc.fabric.test.loot;
 
+import java.util.List;
+
 import com.google.gson.Gson;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonObject;
@@ -66,6 +68,17 @@ public class LootTest implements ModInitializer {
 				supplier.withPool(pool);
 			}
 		});
+
+		// Test filtered loot table load callback, only called for the gravel loot table
+		LootTableLoadingCallback.EVENT.register(LootTableLoadingCallback.forIds(List.of(new Identifier("minecraft", "blocks/gravel")), (resourceManager, manager, id, supplier, setter) -> {
+			LootPool pool = FabricLootPoolBuilder.builder()
+					.withEntry(ItemEntry.builder(Items.GOLD_NUGGET).build())
+					.rolls(ConstantLootNumberProvider.create(1))
+					.withCondition(SurvivesExplosionLootCondition.builder().build())
+					.build();
+
+			supplier.withPool(pool);
+		}));
 	}
 
 	private static class TestSerializer extends LootPoolEntry.Serializer<TagEntry> {
@@ -26,8 +26,11 @@ import org.slf4j.LoggerFactory;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
-import net.minecraft.tag.TagKey;
 import net.minecraft.tag.BlockTags;
+import net.minecraft.tag.TagKey;
+import net.minecraft.util.collection.IdList;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.util.registry.RegistryEntry;
 
 import net.fabricmc.yarn.constants.MiningLevels;
 
@@ -35,48 +38,119 @@ public final class MiningLevelManagerImpl {
 	private static final Logger LOGGER = LoggerFactory.getLogger("fabric-mining-level-api-v1/MiningLevelManagerImpl");
 	private static final String TOOL_TAG_NAMESPACE = "fabric";
 	private static final Pattern TOOL_TAG_PATTERN = Pattern.compile("^needs_tool_level_([0-9]+)$");
+	private static final int NOT_A_TOOL_TAG = Integer.MIN_VALUE;
 
-	// A cache of block state mining levels. Cleared by
-	// - MiningLevelCacheInvalidator when tags are reloaded
+	// The mining levels of all block states, indexed by state id. Recomputed by
+	// - DataPackContentsMixin when tags are bound after a reload
 	// - ClientPlayNetworkHandlerMixin when tags are synced
-	private static final ThreadLocal<Reference2IntMap<BlockState>> CACHE = ThreadLocal.withInitial(Reference2IntOpenHashMap::new);
+	// and shared by all threads.
+	private static volatile MiningLevelTable table = null;
 
 	public static int getRequiredMiningLevel(BlockState state) {
-		return CACHE.get().computeIntIfAbsent(state, s -> {
-			int miningLevel = MiningLevels.HAND;
+		MiningLevelTable current = table;
 
-			// Handle #fabric:needs_tool_level_N
-			for (TagKey<Block> tagId : state.streamTags().toList()) {
-				if (!tagId.id().getNamespace().equals(TOOL_TAG_NAMESPACE)) {
-					continue;
-				}
+		if (current == null) {
+			// tags were not bound yet
+			current = recompute();
+		}
 
-				Matcher matcher = TOOL_TAG_PATTERN.matcher(tagId.id().getPath());
+		int stateId = Block.getRawIdFromState(state);
 
-				if (matcher.matches()) {
-					try {
-						int tagMiningLevel = Integer.parseInt(matcher.group(1));
-						miningLevel = Math.max(miningLevel, tagMiningLevel);
-					} catch (NumberFormatException e) {
-						LOGGER.error("Could not read mining level from tag #{}", tagId, e);
-					}
-				}
+		if (stateId < 0) {
+			// not a registered state, skip the table
+			return computeRequiredMiningLevel(state);
+		} else if (!current.contains(stateId, state)) {
+			// the state ids were remapped or new states were registered since the table was computed
+			current = recompute();
+
+			if (!current.contains(stateId, state)) {
+				return computeRequiredMiningLevel(state);
 			}
+		}
+
+		return current.miningLevels()[stateId];
+	}
+
+	public static void onTagsBound() {
+		recompute();
+	}
+
+	private static MiningLevelTable recompute() {
+		MiningLevelTable ret = MiningLevelTable.compute();
+		table = ret;
+		return ret;
+	}
+
+	private static int computeRequiredMiningLevel(BlockState state) {
+		int miningLevel = MiningLevels.HAND;
+
+		for (TagKey<Block> tag : state.streamTags().toList()) {
+			miningLevel = Math.max(miningLevel, getTagMiningLevel(tag));
+		}
 
-			// Handle vanilla tags
-			if (state.isIn(BlockTags.NEEDS_DIAMOND_TOOL)) {
-				miningLevel = Math.max(miningLevel, MiningLevels.DIAMOND);
-			} else if (state.isIn(BlockTags.NEEDS_IRON_TOOL)) {
-				miningLevel = Math.max(miningLevel, MiningLevels.IRON);
-			} else if (state.isIn(BlockTags.NEEDS_STONE_TOOL)) {
-				miningLevel = Math.max(miningLevel, MiningLevels.STONE);
+		return miningLevel;
+	}
+
+	private static int getTagMiningLevel(TagKey<Block> tag) {
+		// Handle vanilla tags
+		if (tag.equals(BlockTags.NEEDS_DIAMOND_TOOL)) {
+			return MiningLevels.DIAMOND;
+		} else if (tag.equals(BlockTags.NEEDS_IRON_TOOL)) {
+			return MiningLevels.IRON;
+		} else if (tag.equals(BlockTags.NEEDS_STONE_TOOL)) {
+			return MiningLevels.STONE;
+		}
+
+		// Handle #fabric:needs_tool_level_N
+		if (!tag.id().getNamespace().equals(TOOL_TAG_NAMESPACE)) {
+			return NOT_A_TOOL_TAG;
+		}
+
+		Matcher matcher = TOOL_TAG_PATTERN.matcher(tag.id().getPath());
+
+		if (matcher.matches()) {
+			try {
+				return Integer.parseInt(matcher.group(1));
+			} catch (NumberFormatException e) {
+				LOGGER.error("Could not read mining level from tag #{}", tag.id(), e);
 			}
+		}
 
-			return miningLevel;
-		});
+		return NOT_A_TOOL_TAG;
 	}
 
-	public static void clearCache() {
-		CACHE.get().clear();
+	private record MiningLevelTable(BlockState[] states, int[] miningLevels) {
+		boolean contains(int stateId, BlockState state) {
+			return stateId >= 0 && stateId < states.length && states[stateId] == state;
+		}
+
+		static MiningLevelTable compute() {
+			// Mining level tags apply to whole blocks, so go through the tags once instead of through the tags of every state
+			Reference2IntMap<Block> blockMiningLevels = new Reference2IntOpenHashMap<>();
+			blockMiningLevels.defaultReturnValue(MiningLevels.HAND);
+
+			Registry.BLOCK.streamTags().forEach(tag -> {
+				int tagMiningLevel = getTagMiningLevel(tag);
+
+				if (tagMiningLevel != NOT_A_TOOL_TAG) {
+					for (RegistryEntry<Block> entry : Registry.BLOCK.iterateEntries(tag)) {
+						Block block = entry.value();
+						blockMiningLevels.put(block, Math.max(blockMiningLevels.getInt(block), tagMiningLevel));
+					}
+				}
+			});
+
+			IdList<BlockState> stateIds = Block.STATE_IDS;
+			BlockState[] states = new BlockState[stateIds.size()];
+			int[] miningLevels = new int[states.length];
+
+			for (int i = 0; i < states.length; i++) {
+				BlockState state = stateIds.get(i);
+				states[i] = state;
+				miningLevels[i] = state != null ? blockMiningLevels.getInt(state.getBlock()) : MiningLevels.HAND;
+			}
+
+			return new MiningLevelTable(states, miningLevels);
+		}
 	}
 }
@@ -31,7 +31,7 @@ import net.fabricmc.fabric.impl.mininglevel.MiningLevelManagerImpl;
 @Mixin(ClientPlayNetworkHandler.class)
 abstract class ClientPlayNetworkHandlerMixin {
 	@Inject(method = "onSynchronizeTags", at = @At("RETURN"), slice = @Slice(from = @At(value = "FIELD", target = "Lnet/minecraft/client/network/ClientPlayNetworkHandler;tagManager:Lnet/minecraft/tag/TagManager;", opcode = Opcodes.PUTFIELD)))
-	private void fabric$clearMiningLevelCache(SynchronizeTagsS2CPacket packet, CallbackInfo info) {
-		MiningLevelManagerImpl.clearCache();
+	private void fabric$recomputeMiningLevels(SynchronizeTagsS2CPacket packet, CallbackInfo info) {
+		MiningLevelManagerImpl.onTagsBound();
 	}
 }
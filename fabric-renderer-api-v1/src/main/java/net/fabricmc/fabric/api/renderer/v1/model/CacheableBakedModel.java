@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.api.renderer.v1.model;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.item.ItemStack;
+
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+
+/**
+ * Optional interface for {@link FabricBakedModel}s whose output in
+ * {@link FabricBakedModel#emitBlockQuads} is fully determined by the block state
+ * and a key computed by the model, such as the index of a randomly selected variant,
+ * and does not depend on the world or on the position of the block. The same applies
+ * to {@link FabricBakedModel#emitItemQuads} and a key computed from the item stack.
+ *
+ * <p>Renderers may then reuse the quads that were emitted for an earlier block or stack with the same
+ * model and key instead of calling the emit method again.
+ * Face culling, item colors and lighting are still applied by the renderer to the reused quads,
+ * so the output should be the same as normally. Renderers are free to ignore this interface,
+ * so models must keep rendering correctly when the emit methods are called every time.
+ *
+ * <p>When output is cached, the emit methods are called with a
+ * {@link RenderContext} that records the output instead of buffering it.
+ */
+@ApiStatus.Experimental
+public interface CacheableBakedModel {
+	/**
+	 * Key returned to request the output for a block or stack to not be cached.
+	 */
+	long NOT_CACHEABLE = Long.MIN_VALUE;
+
+	/**
+	 * Called during chunk rebuilds, before {@link FabricBakedModel#emitBlockQuads}, to determine whether
+	 * earlier output can be reused. Models whose output only depends on the block state can return {@code 0}.
+	 *
+	 * @param state Block state for model being rendered.
+	 * @param randomSupplier Random object seeded per vanilla conventions, seeded the same way as the one
+	 * passed to {@link FabricBakedModel#emitBlockQuads}. Will not be thread-safe. Do not cache or retain a reference.
+	 * @return a key that, together with the block state, determines the output of {@link FabricBakedModel#emitBlockQuads},
+	 * or {@link #NOT_CACHEABLE} if the output for this block must not be cached, which is the default.
+	 */
+	default long getBlockQuadsCacheKey(BlockState state, Supplier<Random> randomSupplier) {
+		return NOT_CACHEABLE;
+	}
+
+	/**
+	 * Called during item rendering, before {@link FabricBakedModel#emitItemQuads}, to determine whether
+	 * earlier output can be reused. Models whose output doesn't depend on the stack can return {@code 0}.
+	 * Item colors are applied afterwards and don't need to be part of the key.
+	 *
+	 * @param stack The stack being rendered, must not be mutated.
+	 * @return a key that determines the output of {@link FabricBakedModel#emitItemQuads},
+	 * or {@link #NOT_CACHEABLE} if the output for this stack must not be cached, which is the default.
+	 */
+	default long getItemQuadsCacheKey(ItemStack stack) {
+		return NOT_CACHEABLE;
+	}
+}
@@ -16,6 +16,7 @@
 
 package net.fabricmc.fabric.impl.renderer;
 
+import java.util.BitSet;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -23,27 +24,94 @@ import net.minecraft.client.texture.MissingSprite;
 import net.minecraft.client.texture.Sprite;
 import net.minecraft.client.texture.SpriteAtlasTexture;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.math.MathHelper;
 
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadView;
 import net.fabricmc.fabric.api.renderer.v1.model.SpriteFinder;
 
 /**
  * Indexes an atlas sprite to allow fast lookup of Sprites from
- * baked vertex coordinates.  Implementation is a straightforward
- * quad tree. Other options that were considered were linear search
- * (slow) and direct indexing of fixed-size cells. Direct indexing
- * would be fastest but would be memory-intensive for large atlases
- * and unsuitable for any atlas that isn't consistently aligned to
- * a fixed cell size.
+ * baked vertex coordinates.  Lookups first go through direct indexing
+ * of fixed-size cells, sized after the smallest sprite. Cells that aren't
+ * entirely covered by a single sprite, because the sprites aren't consistently
+ * aligned to the cell size, fall back to a straightforward quad tree.
+ * Direct indexing is skipped when it would need too many cells, as for
+ * large atlases with tiny sprites, in which case only the quad tree is used.
  */
 public class SpriteFinderImpl implements SpriteFinder {
+	/** Limits the memory used by direct indexing, the vanilla block atlas needs a few thousand cells. */
+	private static final int MAX_CELLS = 1 << 20;
+	private static final float EPS = 0.00001f;
+
 	private final Node root;
 	private final SpriteAtlasTexture spriteAtlasTexture;
+	private final int cellsU;
+	private final int cellsV;
+	/** Sprite entirely covering each cell, or null to use the quad tree. Null when there is no direct indexing. */
+	private final Sprite[] cells;
 
 	public SpriteFinderImpl(Map<Identifier, Sprite> sprites, SpriteAtlasTexture spriteAtlasTexture) {
 		root = new Node(0.5f, 0.5f, 0.25f);
 		this.spriteAtlasTexture = spriteAtlasTexture;
 		sprites.values().forEach(root::add);
+
+		float minWidth = 1;
+		float minHeight = 1;
+
+		for (Sprite sprite : sprites.values()) {
+			minWidth = Math.min(minWidth, sprite.getMaxU() - sprite.getMinU());
+			minHeight = Math.min(minHeight, sprite.getMaxV() - sprite.getMinV());
+		}
+
+		// Atlases and sprites usually have power of two sizes, so the sprites are aligned to such cells
+		final long cellsU = minWidth > EPS ? MathHelper.smallestEncompassingPowerOfTwo((int) Math.ceil(1 / minWidth - EPS)) : Integer.MAX_VALUE;
+		final long cellsV = minHeight > EPS ? MathHelper.smallestEncompassingPowerOfTwo((int) Math.ceil(1 / minHeight - EPS)) : Integer.MAX_VALUE;
+
+		if (sprites.isEmpty() || cellsU * cellsV > MAX_CELLS) {
+			this.cellsU = 0;
+			this.cellsV = 0;
+			this.cells = null;
+		} else {
+			this.cellsU = (int) cellsU;
+			this.cellsV = (int) cellsV;
+			this.cells = indexCells(sprites.values());
+		}
+	}
+
+	private Sprite[] indexCells(Iterable<Sprite> sprites) {
+		final Sprite[] cells = new Sprite[cellsU * cellsV];
+		final BitSet shared = new BitSet(cells.length);
+
+		for (Sprite sprite : sprites) {
+			// Cells overlapping the sprite at all, and cells entirely inside of it
+			final int minU = Math.max(0, MathHelper.floor(sprite.getMinU() * cellsU + EPS));
+			final int maxU = Math.min(cellsU, MathHelper.ceil(sprite.getMaxU() * cellsU - EPS));
+			final int minV = Math.max(0, MathHelper.floor(sprite.getMinV() * cellsV + EPS));
+			final int maxV = Math.min(cellsV, MathHelper.ceil(sprite.getMaxV() * cellsV - EPS));
+			final int fullMinU = MathHelper.ceil(sprite.getMinU() * cellsU - EPS);
+			final int fullMaxU = MathHelper.floor(sprite.getMaxU() * cellsU + EPS);
+			final int fullMinV = MathHelper.ceil(sprite.getMinV() * cellsV - EPS);
+			final int fullMaxV = MathHelper.floor(sprite.getMaxV() * cellsV + EPS);
+
+			for (int v = minV; v < maxV; v++) {
+				for (int u = minU; u < maxU; u++) {
+					final int index = v * cellsU + u;
+					final boolean full = u >= fullMinU && u < fullMaxU && v >= fullMinV && v < fullMaxV;
+
+					if (!full || cells[index] != null) {
+						shared.set(index);
+					} else {
+						cells[index] = sprite;
+					}
+				}
+			}
+		}
+
+		for (int index = shared.nextSetBit(0); index >= 0; index = shared.nextSetBit(index + 1)) {
+			cells[index] = null;
+		}
+
+		return cells;
 	}
 
 	@Override
@@ -61,9 +129,43 @@ public class SpriteFinderImpl implements SpriteFinder {
 
 	@Override
 	public Sprite find(float u, float v) {
+		if (cells != null && u >= 0 && v >= 0) {
+			final int cellU = (int) (u * cellsU);
+			final int cellV = (int) (v * cellsV);
+
+			if (cellU < cellsU && cellV < cellsV) {
+				final Sprite sprite = cells[cellV * cellsU + cellU];
+
+				if (sprite != null) {
+					return sprite;
+				}
+			}
+		}
+
+		return root.find(u, v);
+	}
+
+	/**
+	 * Looks up a sprite in the quad tree alone, bypassing direct indexing. Used by the test mod to check that both agree.
+	 */
+	public Sprite findInQuadTree(float u, float v) {
 		return root.find(u, v);
 	}
 
+	/**
+	 * @return the number of direct indexing cells along U, or 0 if direct indexing is not used
+	 */
+	public int getCellsU() {
+		return cellsU;
+	}
+
+	/**
+	 * @return the number of direct indexing cells along V, or 0 if direct indexing is not used
+	 */
+	public int getCellsV() {
+		return cellsV;
+	}
+
 	private class Node {
 		final float midU;
 		final float midV;
@@ -79,8 +181,6 @@ public class SpriteFinderImpl implements SpriteFinder {
 			cellRadius = radius;
 		}
 
-		static final float EPS = 0.00001f;
-
 		void add(Sprite sprite) {
 			final boolean lowU = sprite.getMinU() < midU - EPS;
 			final boolean highU = sprite.getMaxU() > midU + EPS;
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.test.renderer.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.texture.SpriteAtlasTexture;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+
+import net.fabricmc.fabric.api.resource.ResourceReloadListenerKeys;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.fabricmc.fabric.impl.renderer.SpriteFinderImpl;
+import net.fabricmc.fabric.test.renderer.mixin.SpriteAtlasTextureAccessor;
+import net.fabricmc.fabric.test.renderer.simple.RendererTest;
+
+/**
+ * Checks after every resource reload that the direct indexing of the block atlas sprite finder
+ * agrees with its quad tree, on every sprite centre and corner and on every cell boundary.
+ */
+public final class SpriteFinderTest implements SimpleSynchronousResourceReloadListener {
+	private static final Logger LOGGER = LoggerFactory.getLogger(SpriteFinderTest.class);
+	private static final int MAX_REPORTED = 10;
+
+	@Override
+	public Identifier getFabricId() {
+		return RendererTest.id("sprite_finder");
+	}
+
+	@Override
+	public Collection<Identifier> getFabricDependencies() {
+		return Collections.singletonList(ResourceReloadListenerKeys.MODELS);
+	}
+
+	@Override
+	public void reload(ResourceManager manager) {
+		final SpriteAtlasTexture atlas = MinecraftClient.getInstance().getBakedModelManager().getAtlas(SpriteAtlasTexture.BLOCK_ATLAS_TEXTURE);
+		final SpriteFinderImpl finder = SpriteFinderImpl.get(atlas);
+		final List<String> mismatches = new ArrayList<>();
+		int checked = 0;
+
+		for (Sprite sprite : ((SpriteAtlasTextureAccessor) atlas).fabric_getSprites().values()) {
+			final float minU = sprite.getMinU();
+			final float maxU = Math.nextDown(sprite.getMaxU());
+			final float minV = sprite.getMinV();
+			final float maxV = Math.nextDown(sprite.getMaxV());
+
+			check(finder, (sprite.getMinU() + sprite.getMaxU()) * 0.5f, (sprite.getMinV() + sprite.getMaxV()) * 0.5f, mismatches);
+			check(finder, minU, minV, mismatches);
+			check(finder, maxU, minV, mismatches);
+			check(finder, minU, maxV, mismatches);
+			check(finder, maxU, maxV, mismatches);
+			checked += 5;
+		}
+
+		final int cellsU = finder.getCellsU();
+		final int cellsV = finder.getCellsV();
+
+		// No cells when the atlas is too fine grained for direct indexing
+		for (int v = 0; cellsU > 0 && v <= cellsV; v++) {
+			for (int u = 0; u <= cellsU; u++) {
+				final float cellU = (float) u / cellsU;
+				final float cellV = (float) v / cellsV;
+
+				// The corner itself and the last point of the cells before it
+				check(finder, cellU, cellV, mismatches);
+				check(finder, Math.nextDown(cellU), Math.nextDown(cellV), mismatches);
+				checked += 2;
+			}
+		}
+
+		if (!mismatches.isEmpty()) {
+			throw new AssertionError("Sprite finder direct indexing disagrees with its quad tree at " + mismatches.size() + " of " + checked + " points, e.g. " + String.join(", ", mismatches.subList(0, Math.min(MAX_REPORTED, mismatches.size()))));
+		}
+
+		LOGGER.info("Sprite finder direct indexing ({}x{} cells) agrees with its quad tree at {} points", cellsU, cellsV, checked);
+	}
+
+	private static void check(SpriteFinderImpl finder, float u, float v, List<String> mismatches) {
+		if (u < 0 || v < 0) {
+			return;
+		}
+
+		final Sprite direct = finder.find(u, v);
+		final Sprite tree = finder.findInQuadTree(u, v);
+
+		if (direct != tree) {
+			mismatches.add("(%s, %s): %s != %s".formatted(u, v, direct.getId(), tree.getId()));
+		}
+	}
+}
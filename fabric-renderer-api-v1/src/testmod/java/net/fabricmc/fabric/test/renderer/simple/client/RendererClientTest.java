@@ -17,10 +17,13 @@
 package net.fabricmc.fabric.test.renderer.simple.client;
 
 import net.minecraft.client.render.RenderLayer;
+import net.minecraft.resource.ResourceType;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.blockrenderlayer.v1.BlockRenderLayerMap;
 import net.fabricmc.fabric.api.client.model.ModelLoadingRegistry;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.test.renderer.client.SpriteFinderTest;
 import net.fabricmc.fabric.test.renderer.simple.FrameBlock;
 import net.fabricmc.fabric.test.renderer.simple.RendererTest;
 
@@ -32,5 +35,7 @@ public final class RendererClientTest implements ClientModInitializer {
 		for (FrameBlock frameBlock : RendererTest.FRAMES) {
 			BlockRenderLayerMap.INSTANCE.putBlock(frameBlock, RenderLayer.getCutoutMipped());
 		}
+
+		ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new SpriteFinderTest());
 	}
 }
@@ -42,6 +42,15 @@ public class Indigo implements ClientModInitializer {
 	public static final boolean FIX_SMOOTH_LIGHTING_OFFSET;
 	public static final boolean FIX_EXTERIOR_VERTEX_LIGHTING;
 	public static final boolean FIX_LUMINOUS_AO_SHADE;
+	/** Reuse the terrain output of models that declare it cacheable, see {@link net.fabricmc.fabric.api.renderer.v1.model.CacheableBakedModel}. */
+	public static final boolean STATIC_MESH_CACHE;
+	/** Set true to log the average time of section rebuilds, to compare terrain rendering changes on the same scene. */
+	public static final boolean DEBUG_LOG_CHUNK_REBUILDS;
+	/**
+	 * Set true to recompute every AO face by sampling the world for the face alone, and fail if it differs from the
+	 * samples shared between the faces of a block. Also enabled by the {@code fabric.indigo.debugValidateAoSampling} system property.
+	 */
+	public static final boolean DEBUG_VALIDATE_AO_SAMPLING;
 
 	public static final Logger LOGGER = LoggerFactory.getLogger(Indigo.class);
 
@@ -117,6 +126,9 @@ public class Indigo implements ClientModInitializer {
 		FIX_SMOOTH_LIGHTING_OFFSET = asBoolean((String) properties.computeIfAbsent("fix-smooth-lighting-offset", (a) -> "auto"), true);
 		FIX_EXTERIOR_VERTEX_LIGHTING = asBoolean((String) properties.computeIfAbsent("fix-exterior-vertex-lighting", (a) -> "auto"), true);
 		FIX_LUMINOUS_AO_SHADE = asBoolean((String) properties.computeIfAbsent("fix-luminous-block-ambient-occlusion", (a) -> "auto"), false);
+		STATIC_MESH_CACHE = asBoolean((String) properties.computeIfAbsent("static-mesh-cache", (a) -> "auto"), true);
+		DEBUG_LOG_CHUNK_REBUILDS = asBoolean((String) properties.computeIfAbsent("debug-log-chunk-rebuilds", (a) -> "auto"), false);
+		DEBUG_VALIDATE_AO_SAMPLING = asBoolean((String) properties.computeIfAbsent("debug-validate-ao-sampling", (a) -> "auto"), Boolean.getBoolean("fabric.indigo.debugValidateAoSampling"));
 
 		try (FileOutputStream stream = new FileOutputStream(configFile)) {
 			properties.store(stream, "Indigo properties file");
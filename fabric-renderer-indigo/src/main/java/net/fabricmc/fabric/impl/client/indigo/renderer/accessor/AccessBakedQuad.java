@@ -14,16 +14,17 @@
  * limitations under the License.
  */
 
-package net.fabricmc.fabric.impl.mininglevel;
+package net.fabricmc.fabric.impl.client.indigo.renderer.accessor;
 
-import net.minecraft.resource.ResourceType;
+import org.jetbrains.annotations.Nullable;
 
-import net.fabricmc.api.ModInitializer;
-import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+public interface AccessBakedQuad {
+	/**
+	 * @return the quad converted to the mesh encoding with its geometry computed,
+	 * see {@link net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MutableQuadViewImpl#fromVanillaCached}
+	 */
+	@Nullable
+	int[] fabric_getEncodedQuad();
 
-public final class FabricMiningLevelInit implements ModInitializer {
-	@Override
-	public void onInitialize() {
-		ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new MiningLevelCacheInvalidator());
-	}
+	void fabric_setEncodedQuad(int[] encodedQuad);
 }
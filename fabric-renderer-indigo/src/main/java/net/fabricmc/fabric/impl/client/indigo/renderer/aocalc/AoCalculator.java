@@ -78,7 +78,6 @@ public class AoCalculator {
 	private static final Logger LOGGER = LoggerFactory.getLogger(AoCalculator.class);
 
 	private final AccessAmbientOcclusionCalculator vanillaCalc;
-	private final BlockPos.Mutable lightPos = new BlockPos.Mutable();
 	private final BlockPos.Mutable searchPos = new BlockPos.Mutable();
 	private final BlockRenderInfo blockInfo;
 	private final ToIntFunction<BlockPos> brightnessFunc;
@@ -90,6 +89,25 @@ public class AoCalculator {
 	/** indicates which elements of {@link #faceData} have been computed for the current block. */
 	private int completionFlags = 0;
 
+	/**
+	 * Samples of the 3x3x3 neighborhood of the current block, indexed by {@link #sampleIndex(int, int, int)}.
+	 * Faces of the same block share most of their samples, so each one is taken at most once per block.
+	 * Filled lazily, as most blocks only have a few visible faces.
+	 */
+	private final int[] sampleLight = new int[27];
+	private final float[] sampleAo = new float[27];
+	private final boolean[] sampleClear = new boolean[27];
+
+	/** indicate which elements of the sample arrays have been computed for the current block, one bit per index. */
+	private int sampledLight = 0;
+	private int sampledAo = 0;
+	private int sampledClear = 0;
+
+	/** Results of {@link #computeFaceUnshared} and its own positions, only used for {@link Indigo#DEBUG_VALIDATE_AO_SAMPLING}. */
+	private final AoFaceData validationData = new AoFaceData();
+	private final BlockPos.Mutable validationLightPos = new BlockPos.Mutable();
+	private final BlockPos.Mutable validationSearchPos = new BlockPos.Mutable();
+
 	/** holds per-corner weights - used locally to avoid new allocation. */
 	private final float[] w = new float[4];
 
@@ -111,6 +129,9 @@ public class AoCalculator {
 	/** call at start of each new block. */
 	public void clear() {
 		completionFlags = 0;
+		sampledLight = 0;
+		sampledAo = 0;
+		sampledClear = 0;
 	}
 
 	public void compute(MutableQuadViewImpl quad, boolean isVanilla) {
@@ -376,39 +397,54 @@ public class AoCalculator {
 
 			final BlockRenderView world = blockInfo.blockView;
 			final BlockPos pos = blockInfo.blockPos;
-			final BlockPos.Mutable lightPos = this.lightPos;
 			final BlockPos.Mutable searchPos = this.searchPos;
 
-			lightPos.set(isOnBlockFace ? pos.offset(lightFace) : pos);
+			// offsets from the block of the light position and of its neighbors
+			final int lx = isOnBlockFace ? lightFace.getOffsetX() : 0;
+			final int ly = isOnBlockFace ? lightFace.getOffsetY() : 0;
+			final int lz = isOnBlockFace ? lightFace.getOffsetZ() : 0;
 			AoFace aoFace = AoFace.get(lightFace);
-
-			searchPos.set(lightPos).move(aoFace.neighbors[0]);
-			final int light0 = brightnessFunc.applyAsInt(searchPos);
-			final float ao0 = aoFunc.apply(searchPos);
-			searchPos.set(lightPos).move(aoFace.neighbors[1]);
-			final int light1 = brightnessFunc.applyAsInt(searchPos);
-			final float ao1 = aoFunc.apply(searchPos);
-			searchPos.set(lightPos).move(aoFace.neighbors[2]);
-			final int light2 = brightnessFunc.applyAsInt(searchPos);
-			final float ao2 = aoFunc.apply(searchPos);
-			searchPos.set(lightPos).move(aoFace.neighbors[3]);
-			final int light3 = brightnessFunc.applyAsInt(searchPos);
-			final float ao3 = aoFunc.apply(searchPos);
+			final Direction n0 = aoFace.neighbors[0];
+			final Direction n1 = aoFace.neighbors[1];
+			final Direction n2 = aoFace.neighbors[2];
+			final Direction n3 = aoFace.neighbors[3];
+			final int x0 = lx + n0.getOffsetX(), y0 = ly + n0.getOffsetY(), z0 = lz + n0.getOffsetZ();
+			final int x1 = lx + n1.getOffsetX(), y1 = ly + n1.getOffsetY(), z1 = lz + n1.getOffsetZ();
+			final int x2 = lx + n2.getOffsetX(), y2 = ly + n2.getOffsetY(), z2 = lz + n2.getOffsetZ();
+			final int x3 = lx + n3.getOffsetX(), y3 = ly + n3.getOffsetY(), z3 = lz + n3.getOffsetZ();
+
+			final int light0 = sampleLight(x0, y0, z0);
+			final float ao0 = sampleAo(x0, y0, z0);
+			final int light1 = sampleLight(x1, y1, z1);
+			final float ao1 = sampleAo(x1, y1, z1);
+			final int light2 = sampleLight(x2, y2, z2);
+			final float ao2 = sampleAo(x2, y2, z2);
+			final int light3 = sampleLight(x3, y3, z3);
+			final float ao3 = sampleAo(x3, y3, z3);
 
 			// vanilla was further offsetting these in the direction of the light face
 			// but it was actually mis-sampling and causing visible artifacts in certain situation
-			searchPos.set(lightPos).move(aoFace.neighbors[0]); //.setOffset(lightFace);
-			if (!Indigo.FIX_SMOOTH_LIGHTING_OFFSET) searchPos.move(lightFace);
-			final boolean isClear0 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
-			searchPos.set(lightPos).move(aoFace.neighbors[1]); //.setOffset(lightFace);
-			if (!Indigo.FIX_SMOOTH_LIGHTING_OFFSET) searchPos.move(lightFace);
-			final boolean isClear1 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
-			searchPos.set(lightPos).move(aoFace.neighbors[2]); //.setOffset(lightFace);
-			if (!Indigo.FIX_SMOOTH_LIGHTING_OFFSET) searchPos.move(lightFace);
-			final boolean isClear2 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
-			searchPos.set(lightPos).move(aoFace.neighbors[3]); //.setOffset(lightFace);
-			if (!Indigo.FIX_SMOOTH_LIGHTING_OFFSET) searchPos.move(lightFace);
-			final boolean isClear3 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+			final boolean isClear0;
+			final boolean isClear1;
+			final boolean isClear2;
+			final boolean isClear3;
+
+			if (Indigo.FIX_SMOOTH_LIGHTING_OFFSET) {
+				isClear0 = sampleClear(x0, y0, z0);
+				isClear1 = sampleClear(x1, y1, z1);
+				isClear2 = sampleClear(x2, y2, z2);
+				isClear3 = sampleClear(x3, y3, z3);
+			} else {
+				// may be outside of the neighborhood, not worth sampling as this is not the default
+				searchPos.set(pos, x0, y0, z0).move(lightFace);
+				isClear0 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+				searchPos.set(pos, x1, y1, z1).move(lightFace);
+				isClear1 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+				searchPos.set(pos, x2, y2, z2).move(lightFace);
+				isClear2 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+				searchPos.set(pos, x3, y3, z3).move(lightFace);
+				isClear3 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+			}
 
 			// c = corner - values at corners of face
 			int cLight0, cLight1, cLight2, cLight3;
@@ -421,36 +457,32 @@ public class AoCalculator {
 				cAo0 = ao0;
 				cLight0 = light0;
 			} else {
-				searchPos.set(lightPos).move(aoFace.neighbors[0]).move(aoFace.neighbors[2]);
-				cAo0 = aoFunc.apply(searchPos);
-				cLight0 = brightnessFunc.applyAsInt(searchPos);
+				cAo0 = sampleAo(x0 + n2.getOffsetX(), y0 + n2.getOffsetY(), z0 + n2.getOffsetZ());
+				cLight0 = sampleLight(x0 + n2.getOffsetX(), y0 + n2.getOffsetY(), z0 + n2.getOffsetZ());
 			}
 
 			if (!isClear3 && !isClear0) {
 				cAo1 = ao0;
 				cLight1 = light0;
 			} else {
-				searchPos.set(lightPos).move(aoFace.neighbors[0]).move(aoFace.neighbors[3]);
-				cAo1 = aoFunc.apply(searchPos);
-				cLight1 = brightnessFunc.applyAsInt(searchPos);
+				cAo1 = sampleAo(x0 + n3.getOffsetX(), y0 + n3.getOffsetY(), z0 + n3.getOffsetZ());
+				cLight1 = sampleLight(x0 + n3.getOffsetX(), y0 + n3.getOffsetY(), z0 + n3.getOffsetZ());
 			}
 
 			if (!isClear2 && !isClear1) {
 				cAo2 = ao1;
 				cLight2 = light1;
 			} else {
-				searchPos.set(lightPos).move(aoFace.neighbors[1]).move(aoFace.neighbors[2]);
-				cAo2 = aoFunc.apply(searchPos);
-				cLight2 = brightnessFunc.applyAsInt(searchPos);
+				cAo2 = sampleAo(x1 + n2.getOffsetX(), y1 + n2.getOffsetY(), z1 + n2.getOffsetZ());
+				cLight2 = sampleLight(x1 + n2.getOffsetX(), y1 + n2.getOffsetY(), z1 + n2.getOffsetZ());
 			}
 
 			if (!isClear3 && !isClear1) {
 				cAo3 = ao1;
 				cLight3 = light1;
 			} else {
-				searchPos.set(lightPos).move(aoFace.neighbors[1]).move(aoFace.neighbors[3]);
-				cAo3 = aoFunc.apply(searchPos);
-				cLight3 = brightnessFunc.applyAsInt(searchPos);
+				cAo3 = sampleAo(x1 + n3.getOffsetX(), y1 + n3.getOffsetY(), z1 + n3.getOffsetZ());
+				cLight3 = sampleLight(x1 + n3.getOffsetX(), y1 + n3.getOffsetY(), z1 + n3.getOffsetZ());
 			}
 
 			// If on block face or neighbor isn't occluding, "center" will be neighbor brightness
@@ -459,12 +491,12 @@ public class AoCalculator {
 			searchPos.set(pos).move(lightFace);
 
 			if (isOnBlockFace || !world.getBlockState(searchPos).isOpaqueFullCube(world, searchPos)) {
-				lightCenter = brightnessFunc.applyAsInt(searchPos);
+				lightCenter = sampleLight(lightFace.getOffsetX(), lightFace.getOffsetY(), lightFace.getOffsetZ());
 			} else {
-				lightCenter = brightnessFunc.applyAsInt(pos);
+				lightCenter = sampleLight(0, 0, 0);
 			}
 
-			float aoCenter = aoFunc.apply(isOnBlockFace ? lightPos : pos);
+			float aoCenter = sampleAo(lx, ly, lz);
 			float worldBrightness = world.getBrightness(lightFace, shade);
 
 			result.a0 = ((ao3 + ao0 + cAo1 + aoCenter) * 0.25F) * worldBrightness;
@@ -476,11 +508,171 @@ public class AoCalculator {
 			result.l1(meanBrightness(light2, light0, cLight0, lightCenter));
 			result.l2(meanBrightness(light2, light1, cLight2, lightCenter));
 			result.l3(meanBrightness(light3, light1, cLight3, lightCenter));
+
+			if (Indigo.DEBUG_VALIDATE_AO_SAMPLING) {
+				validateFace(lightFace, isOnBlockFace, shade, result);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Checks the result of {@link #computeFace} against {@link #computeFaceUnshared}, which should be bit-exact.
+	 */
+	private void validateFace(Direction lightFace, boolean isOnBlockFace, boolean shade, AoFaceData shared) {
+		final AoFaceData unshared = computeFaceUnshared(lightFace, isOnBlockFace, shade, validationData);
+
+		if (!shared.isSameAs(unshared)) {
+			throw new IllegalStateException(String.format("AO sampling mismatch for %s @ %s, face %s (on block face: %s). Shared: %s, per face: %s",
+					blockInfo.blockState, blockInfo.blockPos, lightFace, isOnBlockFace, shared, unshared));
+		}
+	}
+
+	/**
+	 * Same as {@link #computeFace}, but samples the world separately for every face rather than sharing the
+	 * samples of the block between its faces. This is how faces were computed before the samples were shared,
+	 * kept only to validate them.
+	 */
+	private AoFaceData computeFaceUnshared(Direction lightFace, boolean isOnBlockFace, boolean shade, AoFaceData result) {
+		final BlockRenderView world = blockInfo.blockView;
+		final BlockPos pos = blockInfo.blockPos;
+		final BlockPos.Mutable lightPos = this.validationLightPos;
+		final BlockPos.Mutable searchPos = this.validationSearchPos;
+
+		lightPos.set(isOnBlockFace ? pos.offset(lightFace) : pos);
+		AoFace aoFace = AoFace.get(lightFace);
+
+		searchPos.set(lightPos).move(aoFace.neighbors[0]);
+		final int light0 = brightnessFunc.applyAsInt(searchPos);
+		final float ao0 = aoFunc.apply(searchPos);
+		searchPos.set(lightPos).move(aoFace.neighbors[1]);
+		final int light1 = brightnessFunc.applyAsInt(searchPos);
+		final float ao1 = aoFunc.apply(searchPos);
+		searchPos.set(lightPos).move(aoFace.neighbors[2]);
+		final int light2 = brightnessFunc.applyAsInt(searchPos);
+		final float ao2 = aoFunc.apply(searchPos);
+		searchPos.set(lightPos).move(aoFace.neighbors[3]);
+		final int light3 = brightnessFunc.applyAsInt(searchPos);
+		final float ao3 = aoFunc.apply(searchPos);
+
+		searchPos.set(lightPos).move(aoFace.neighbors[0]);
+		if (!Indigo.FIX_SMOOTH_LIGHTING_OFFSET) searchPos.move(lightFace);
+		final boolean isClear0 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+		searchPos.set(lightPos).move(aoFace.neighbors[1]);
+		if (!Indigo.FIX_SMOOTH_LIGHTING_OFFSET) searchPos.move(lightFace);
+		final boolean isClear1 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+		searchPos.set(lightPos).move(aoFace.neighbors[2]);
+		if (!Indigo.FIX_SMOOTH_LIGHTING_OFFSET) searchPos.move(lightFace);
+		final boolean isClear2 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+		searchPos.set(lightPos).move(aoFace.neighbors[3]);
+		if (!Indigo.FIX_SMOOTH_LIGHTING_OFFSET) searchPos.move(lightFace);
+		final boolean isClear3 = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+
+		int cLight0, cLight1, cLight2, cLight3;
+		float cAo0, cAo1, cAo2, cAo3;
+
+		if (!isClear2 && !isClear0) {
+			cAo0 = ao0;
+			cLight0 = light0;
+		} else {
+			searchPos.set(lightPos).move(aoFace.neighbors[0]).move(aoFace.neighbors[2]);
+			cAo0 = aoFunc.apply(searchPos);
+			cLight0 = brightnessFunc.applyAsInt(searchPos);
+		}
+
+		if (!isClear3 && !isClear0) {
+			cAo1 = ao0;
+			cLight1 = light0;
+		} else {
+			searchPos.set(lightPos).move(aoFace.neighbors[0]).move(aoFace.neighbors[3]);
+			cAo1 = aoFunc.apply(searchPos);
+			cLight1 = brightnessFunc.applyAsInt(searchPos);
+		}
+
+		if (!isClear2 && !isClear1) {
+			cAo2 = ao1;
+			cLight2 = light1;
+		} else {
+			searchPos.set(lightPos).move(aoFace.neighbors[1]).move(aoFace.neighbors[2]);
+			cAo2 = aoFunc.apply(searchPos);
+			cLight2 = brightnessFunc.applyAsInt(searchPos);
+		}
+
+		if (!isClear3 && !isClear1) {
+			cAo3 = ao1;
+			cLight3 = light1;
+		} else {
+			searchPos.set(lightPos).move(aoFace.neighbors[1]).move(aoFace.neighbors[3]);
+			cAo3 = aoFunc.apply(searchPos);
+			cLight3 = brightnessFunc.applyAsInt(searchPos);
+		}
+
+		int lightCenter;
+		searchPos.set(pos).move(lightFace);
+
+		if (isOnBlockFace || !world.getBlockState(searchPos).isOpaqueFullCube(world, searchPos)) {
+			lightCenter = brightnessFunc.applyAsInt(searchPos);
+		} else {
+			lightCenter = brightnessFunc.applyAsInt(pos);
 		}
 
+		float aoCenter = aoFunc.apply(isOnBlockFace ? lightPos : pos);
+		float worldBrightness = world.getBrightness(lightFace, shade);
+
+		result.a0 = ((ao3 + ao0 + cAo1 + aoCenter) * 0.25F) * worldBrightness;
+		result.a1 = ((ao2 + ao0 + cAo0 + aoCenter) * 0.25F) * worldBrightness;
+		result.a2 = ((ao2 + ao1 + cAo2 + aoCenter) * 0.25F) * worldBrightness;
+		result.a3 = ((ao3 + ao1 + cAo3 + aoCenter) * 0.25F) * worldBrightness;
+
+		result.l0(meanBrightness(light3, light0, cLight1, lightCenter));
+		result.l1(meanBrightness(light2, light0, cLight0, lightCenter));
+		result.l2(meanBrightness(light2, light1, cLight2, lightCenter));
+		result.l3(meanBrightness(light3, light1, cLight3, lightCenter));
+
 		return result;
 	}
 
+	/** All offsets must be in [-1, 1]. */
+	private static int sampleIndex(int dx, int dy, int dz) {
+		return (dx + 1) * 9 + (dy + 1) * 3 + dz + 1;
+	}
+
+	private int sampleLight(int dx, int dy, int dz) {
+		final int index = sampleIndex(dx, dy, dz);
+
+		if ((sampledLight & (1 << index)) == 0) {
+			sampledLight |= 1 << index;
+			sampleLight[index] = brightnessFunc.applyAsInt(searchPos.set(blockInfo.blockPos, dx, dy, dz));
+		}
+
+		return sampleLight[index];
+	}
+
+	private float sampleAo(int dx, int dy, int dz) {
+		final int index = sampleIndex(dx, dy, dz);
+
+		if ((sampledAo & (1 << index)) == 0) {
+			sampledAo |= 1 << index;
+			sampleAo[index] = aoFunc.apply(searchPos.set(blockInfo.blockPos, dx, dy, dz));
+		}
+
+		return sampleAo[index];
+	}
+
+	private boolean sampleClear(int dx, int dy, int dz) {
+		final int index = sampleIndex(dx, dy, dz);
+
+		if ((sampledClear & (1 << index)) == 0) {
+			sampledClear |= 1 << index;
+			final BlockRenderView world = blockInfo.blockView;
+			final BlockPos.Mutable searchPos = this.searchPos.set(blockInfo.blockPos, dx, dy, dz);
+			sampleClear[index] = world.getBlockState(searchPos).getOpacity(world, searchPos) == 0;
+		}
+
+		return sampleClear[index];
+	}
+
 	/**
 	 * Vanilla code excluded missing light values from mean but was not isotropic.
 	 * Still need to substitute or edges are too dark but consistently use the min
@@ -81,6 +81,18 @@ class AoFaceData {
 		bOut[vertexMap[3]] = s3 << 16 | b3;
 	}
 
+	/** Exact comparison, used to validate that different ways of computing the same face agree. */
+	boolean isSameAs(AoFaceData other) {
+		return a0 == other.a0 && a1 == other.a1 && a2 == other.a2 && a3 == other.a3
+				&& b0 == other.b0 && b1 == other.b1 && b2 == other.b2 && b3 == other.b3
+				&& s0 == other.s0 && s1 == other.s1 && s2 == other.s2 && s3 == other.s3;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("[ao %s, %s, %s, %s; block %d, %d, %d, %d; sky %d, %d, %d, %d]", a0, a1, a2, a3, b0, b1, b2, b3, s0, s1, s2, s3);
+	}
+
 	static AoFaceData weightedMean(AoFaceData in0, float w0, AoFaceData in1, float w1, AoFaceData out) {
 		out.a0 = in0.a0 * w0 + in1.a0 * w1;
 		out.a1 = in0.a1 * w0 + in1.a1 * w1;
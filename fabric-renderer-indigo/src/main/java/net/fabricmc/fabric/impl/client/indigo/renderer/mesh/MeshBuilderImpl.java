@@ -19,6 +19,7 @@ package net.fabricmc.fabric.impl.client.indigo.renderer.mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext.QuadTransform;
 
 /**
  * Our implementation of {@link MeshBuilder}, used for static mesh creation and baking.
@@ -30,9 +31,21 @@ import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
 public class MeshBuilderImpl implements MeshBuilder {
 	int[] data = new int[256];
 	private final Maker maker = new Maker();
+	private final QuadTransform transform;
 	int index = 0;
 	int limit = data.length;
 
+	public MeshBuilderImpl() {
+		this(q -> true);
+	}
+
+	/**
+	 * @param transform applied to every quad when it is emitted, quads for which it returns false are discarded
+	 */
+	public MeshBuilderImpl(QuadTransform transform) {
+		this.transform = transform;
+	}
+
 	protected void ensureCapacity(int stride) {
 		if (stride > limit - index) {
 			limit *= 2;
@@ -52,6 +65,20 @@ public class MeshBuilderImpl implements MeshBuilder {
 		return new MeshImpl(packed);
 	}
 
+	/**
+	 * Appends all quads of the mesh, as if they were emitted one by one.
+	 */
+	public void append(MeshImpl mesh) {
+		final int[] meshData = mesh.data;
+
+		for (int meshIndex = 0; meshIndex < meshData.length; meshIndex += EncodingFormat.TOTAL_STRIDE) {
+			getEmitter();
+			System.arraycopy(meshData, meshIndex, data, index, EncodingFormat.TOTAL_STRIDE);
+			maker.load();
+			maker.emit();
+		}
+	}
+
 	@Override
 	public QuadEmitter getEmitter() {
 		ensureCapacity(EncodingFormat.TOTAL_STRIDE);
@@ -68,10 +95,13 @@ public class MeshBuilderImpl implements MeshBuilder {
 	private class Maker extends MutableQuadViewImpl implements QuadEmitter {
 		@Override
 		public Maker emit() {
-			computeGeometry();
-			index += EncodingFormat.TOTAL_STRIDE;
-			ensureCapacity(EncodingFormat.TOTAL_STRIDE);
-			baseIndex = index;
+			if (transform.transform(this)) {
+				computeGeometry();
+				index += EncodingFormat.TOTAL_STRIDE;
+				ensureCapacity(EncodingFormat.TOTAL_STRIDE);
+				baseIndex = index;
+			}
+
 			clear();
 			return this;
 		}
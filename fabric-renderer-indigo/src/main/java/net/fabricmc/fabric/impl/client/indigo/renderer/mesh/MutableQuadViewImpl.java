@@ -39,6 +39,7 @@ import net.fabricmc.fabric.api.renderer.v1.material.RenderMaterial;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
 import net.fabricmc.fabric.impl.client.indigo.renderer.IndigoRenderer;
 import net.fabricmc.fabric.impl.client.indigo.renderer.RenderMaterialImpl.Value;
+import net.fabricmc.fabric.impl.client.indigo.renderer.accessor.AccessBakedQuad;
 import net.fabricmc.fabric.impl.client.indigo.renderer.helper.NormalHelper;
 import net.fabricmc.fabric.impl.client.indigo.renderer.helper.TextureHelper;
 
@@ -123,6 +124,40 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 		return this;
 	}
 
+	/**
+	 * Same result as {@link #fromVanilla(BakedQuad, RenderMaterial, Direction)}, with the geometry already computed.
+	 * The quad is converted once and kept with it, later calls only copy the conversion and
+	 * set the parts of the header that depend on the caller. This assumes the vertex data of
+	 * baked quads isn't modified once they are rendered.
+	 */
+	public final MutableQuadViewImpl fromVanillaCached(BakedQuad quad, RenderMaterial material, Direction cullFace) {
+		int[] encoded = ((AccessBakedQuad) quad).fabric_getEncodedQuad();
+
+		if (encoded == null) {
+			fromVanilla(quad, IndigoRenderer.MATERIAL_STANDARD, null);
+			computeGeometry();
+
+			// the face normal isn't encoded, but is also known once the geometry is
+			encoded = new int[EncodingFormat.TOTAL_STRIDE + 3];
+			System.arraycopy(data, baseIndex, encoded, 0, EncodingFormat.TOTAL_STRIDE);
+			encoded[EncodingFormat.TOTAL_STRIDE] = Float.floatToRawIntBits(faceNormal.getX());
+			encoded[EncodingFormat.TOTAL_STRIDE + 1] = Float.floatToRawIntBits(faceNormal.getY());
+			encoded[EncodingFormat.TOTAL_STRIDE + 2] = Float.floatToRawIntBits(faceNormal.getZ());
+			((AccessBakedQuad) quad).fabric_setEncodedQuad(encoded);
+		} else {
+			System.arraycopy(encoded, 0, data, baseIndex, EncodingFormat.TOTAL_STRIDE);
+			faceNormal.set(Float.intBitsToFloat(encoded[EncodingFormat.TOTAL_STRIDE]), Float.intBitsToFloat(encoded[EncodingFormat.TOTAL_STRIDE + 1]), Float.intBitsToFloat(encoded[EncodingFormat.TOTAL_STRIDE + 2]));
+			isGeometryInvalid = false;
+		}
+
+		// light face and geometry flags don't depend on the cull face
+		data[baseIndex + HEADER_BITS] = EncodingFormat.cullFace(data[baseIndex + HEADER_BITS], cullFace);
+		nominalFace(quad.getFace());
+		material(material);
+		shade(quad.hasShade());
+		return this;
+	}
+
 	@Override
 	public MutableQuadViewImpl pos(int vertexIndex, float x, float y, float z) {
 		final int index = baseIndex + vertexIndex * VERTEX_STRIDE + VERTEX_X;
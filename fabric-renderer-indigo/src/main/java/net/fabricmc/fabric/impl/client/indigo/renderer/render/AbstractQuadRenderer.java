@@ -31,6 +31,7 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Matrix3f;
 import net.minecraft.util.math.Matrix4f;
 import net.minecraft.util.math.Vec3f;
+import net.minecraft.util.math.Vector4f;
 
 import net.fabricmc.fabric.api.renderer.v1.render.RenderContext.QuadTransform;
 import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoCalculator;
@@ -48,6 +49,7 @@ public abstract class AbstractQuadRenderer {
 	protected final AoCalculator aoCalc;
 	protected final QuadTransform transform;
 	protected final Vec3f normalVec = new Vec3f();
+	protected final Vector4f posVec = new Vector4f();
 
 	protected abstract Matrix4f matrix();
 
@@ -79,10 +81,15 @@ public abstract class AbstractQuadRenderer {
 
 	/** final output step, common to all renders. */
 	private void bufferQuad(MutableQuadViewImpl quad, RenderLayer renderLayer) {
-		bufferQuad(bufferFunc.apply(renderLayer), quad, matrix(), overlay(), normalMatrix(), normalVec);
+		bufferQuad(bufferFunc.apply(renderLayer), quad, matrix(), overlay(), normalMatrix(), normalVec, posVec);
 	}
 
-	public static void bufferQuad(VertexConsumer buff, MutableQuadViewImpl quad, Matrix4f matrix, int overlay, Matrix3f normalMatrix, Vec3f normalVec) {
+	/**
+	 * Writes each vertex with a single call to the bulk {@link VertexConsumer#vertex(float, float, float, float, float, float, float, float, float, int, int, float, float, float)}
+	 * instead of one call per element. {@link net.minecraft.client.render.BufferBuilder} implements it by writing the whole vertex
+	 * without per-element checks for the block and entity vertex formats, and other consumers fall back to the per-element calls.
+	 */
+	public static void bufferQuad(VertexConsumer buff, MutableQuadViewImpl quad, Matrix4f matrix, int overlay, Matrix3f normalMatrix, Vec3f normalVec, Vector4f posVec) {
 		final boolean useNormals = quad.hasVertexNormals();
 
 		if (useNormals) {
@@ -94,20 +101,23 @@ public abstract class AbstractQuadRenderer {
 		}
 
 		for (int i = 0; i < 4; i++) {
-			buff.vertex(matrix, quad.x(i), quad.y(i), quad.z(i));
-			final int color = quad.spriteColor(i, 0);
-			buff.color(color & 0xFF, (color >> 8) & 0xFF, (color >> 16) & 0xFF, (color >> 24) & 0xFF);
-			buff.texture(quad.spriteU(i, 0), quad.spriteV(i, 0));
-			buff.overlay(overlay);
-			buff.light(quad.lightmap(i));
+			posVec.set(quad.x(i), quad.y(i), quad.z(i), 1.0f);
+			posVec.transform(matrix);
 
 			if (useNormals) {
 				normalVec.set(quad.normalX(i), quad.normalY(i), quad.normalZ(i));
 				normalVec.transform(normalMatrix);
 			}
 
-			buff.normal(normalVec.getX(), normalVec.getY(), normalVec.getZ());
-			buff.next();
+			// Same conversion as the float color method, which turns these back into the exact same bytes
+			final int color = quad.spriteColor(i, 0);
+			final float red = (color & 0xFF) / 255.0f;
+			final float green = ((color >> 8) & 0xFF) / 255.0f;
+			final float blue = ((color >> 16) & 0xFF) / 255.0f;
+			final float alpha = ((color >> 24) & 0xFF) / 255.0f;
+
+			buff.vertex(posVec.getX(), posVec.getY(), posVec.getZ(), red, green, blue, alpha, quad.spriteU(i, 0), quad.spriteV(i, 0),
+					overlay, quad.lightmap(i), normalVec.getX(), normalVec.getY(), normalVec.getZ());
 		}
 	}
 
@@ -39,6 +39,7 @@ import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
  */
 public class BlockRenderInfo {
 	private final BlockColors blockColorMap = MinecraftClient.getInstance().getBlockColors();
+	private final TintColorCache blockColors = new TintColorCache();
 	public final Random random = new Random();
 	public BlockRenderView blockView;
 	public BlockPos blockPos;
@@ -69,6 +70,7 @@ public class BlockRenderInfo {
 		this.blockState = blockState;
 		// in the unlikely case seed actually matches this, we'll simply retrieve it more than one
 		seed = -1L;
+		blockColors.clear();
 		defaultAo = modelAO && MinecraftClient.isAmbientOcclusionEnabled() && blockState.getLuminance() == 0;
 
 		defaultLayer = RenderLayers.getBlockLayer(blockState);
@@ -80,7 +82,14 @@ public class BlockRenderInfo {
 	}
 
 	int blockColor(int colorIndex) {
-		return 0xFF000000 | blockColorMap.getColor(blockState, blockView, blockPos, colorIndex);
+		int color = blockColors.get(colorIndex);
+
+		if (color == 0) {
+			color = 0xFF000000 | blockColorMap.getColor(blockState, blockView, blockPos, colorIndex);
+			blockColors.put(colorIndex, color);
+		}
+
+		return color;
 	}
 
 	boolean shouldDrawFace(Direction face) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
+
+/**
+ * Logs how long section rebuilds take on average when {@link Indigo#DEBUG_LOG_CHUNK_REBUILDS} is set,
+ * so that changes to terrain rendering can be compared on the same scene.
+ * Rebuilds run on several worker threads, which all report here.
+ */
+final class ChunkRebuildTimings {
+	private static final int LOG_INTERVAL = 1024;
+
+	private static int sections = 0;
+	private static int blocks = 0;
+	private static long nanos = 0;
+
+	private ChunkRebuildTimings() {
+	}
+
+	static synchronized void record(long sectionNanos, int sectionBlocks) {
+		nanos += sectionNanos;
+		blocks += sectionBlocks;
+
+		if (++sections == LOG_INTERVAL) {
+			Indigo.LOGGER.info("[Indigo] Rebuilt {} sections in {} us on average, {} blocks tessellated by Indigo per section on average",
+					sections, nanos / sections / 1000, blocks / sections);
+			sections = 0;
+			blocks = 0;
+			nanos = 0;
+		}
+	}
+}
@@ -16,8 +16,8 @@
 
 package net.fabricmc.fabric.impl.client.indigo.renderer.render;
 
-import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 
 import net.minecraft.block.BlockState;
@@ -43,18 +43,25 @@ import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoLuminanceFix;
  * be applied together with chunk offsets.
  */
 public class ChunkRenderInfo {
+	/**
+	 * Blocks in a section plus the 1-block border around it, which is all that
+	 * brightness and AO lookups reach for blocks of the section.
+	 */
+	private static final int CACHE_EXTENT = 18;
+	private static final int CACHE_SIZE = CACHE_EXTENT * CACHE_EXTENT * CACHE_EXTENT;
+
 	/**
 	 * Serves same function as brightness cache in Mojang's AO calculator,
 	 * with some differences as follows...
 	 *
-	 * <ul><li>Mojang uses Object2Int.  This uses Long2Int for performance and to avoid
-	 * creating new immutable BlockPos references.  But will break if someone
-	 * wants to expand Y limit or world borders.  If we want to support that may
-	 * need to switch or make configurable.
+	 * <ul><li>Mojang uses Object2Int.  This uses flat arrays indexed by the position
+	 * relative to the section, which avoids hashing and creating new immutable
+	 * BlockPos references. Positions outside of the section and its border,
+	 * which only happen with unusual block offsets, are not cached.
 	 *
 	 * <li>Mojang overrides the map methods to limit the cache to 50 values.
 	 * However, a render chunk only has 18^3 blocks in it, and the cache is cleared every chunk.
-	 * For performance and simplicity, we just let map grow to the size of the render chunk.
+	 * For performance and simplicity, we just size the arrays to the render chunk.
 	 *
 	 * <li>Mojang only uses the cache for Ao.  Here it is used for all brightness
 	 * lookups, including flat lighting.
@@ -62,11 +69,18 @@ public class ChunkRenderInfo {
 	 * <li>The Mojang cache is a separate threadlocal with a threadlocal boolean to
 	 * enable disable. Cache clearing happens with the disable. There's no use case for
 	 * us when the cache needs to be disabled (and no apparent case in Mojang's code either)
-	 * so we simply clear the cache at the start of each new chunk. It is also
-	 * not a threadlocal because it's held within a threadlocal BlockRenderer.</ul>
+	 * so we simply clear the cache at the start of each new chunk, by bumping the
+	 * generation the entries are stamped with rather than by filling the arrays.
+	 * It is also not a threadlocal because it's held within a threadlocal BlockRenderer.</ul>
 	 */
-	private final Long2IntOpenHashMap brightnessCache;
-	private final Long2FloatOpenHashMap aoLevelCache;
+	private final int[] brightnessCache = new int[CACHE_SIZE];
+	private final int[] brightnessGenerations = new int[CACHE_SIZE];
+	private final float[] aoLevelCache = new float[CACHE_SIZE];
+	private final int[] aoLevelGenerations = new int[CACHE_SIZE];
+	private int generation = 0;
+	private int cacheMinX;
+	private int cacheMinY;
+	private int cacheMinZ;
 
 	private final BlockPos.Mutable chunkOrigin = new BlockPos.Mutable();
 	AccessChunkRendererData chunkData;
@@ -77,10 +91,6 @@ public class ChunkRenderInfo {
 	private final Object2ObjectOpenHashMap<RenderLayer, BufferBuilder> buffers = new Object2ObjectOpenHashMap<>();
 
 	ChunkRenderInfo() {
-		brightnessCache = new Long2IntOpenHashMap();
-		brightnessCache.defaultReturnValue(Integer.MAX_VALUE);
-		aoLevelCache = new Long2FloatOpenHashMap();
-		aoLevelCache.defaultReturnValue(Float.MAX_VALUE);
 	}
 
 	void prepare(ChunkRendererRegion blockView, BuiltChunk chunkRenderer, ChunkData chunkData, BlockBufferBuilderStorage builders) {
@@ -90,8 +100,36 @@ public class ChunkRenderInfo {
 		this.chunkRenderer = chunkRenderer;
 		this.builders = builders;
 		buffers.clear();
-		brightnessCache.clear();
-		aoLevelCache.clear();
+		clearCaches();
+	}
+
+	private void clearCaches() {
+		cacheMinX = chunkOrigin.getX() - 1;
+		cacheMinY = chunkOrigin.getY() - 1;
+		cacheMinZ = chunkOrigin.getZ() - 1;
+
+		if (++generation == 0) {
+			// Stamps from before the wrap around could match again
+			Arrays.fill(brightnessGenerations, 0);
+			Arrays.fill(aoLevelGenerations, 0);
+			generation = 1;
+		}
+	}
+
+	/**
+	 * @return the index of the position in the caches, or -1 if it is outside of the cached region
+	 */
+	private int cacheIndex(BlockPos pos) {
+		int x = pos.getX() - cacheMinX;
+		int y = pos.getY() - cacheMinY;
+		int z = pos.getZ() - cacheMinZ;
+
+		// The sign bit of the OR is set if any of them is negative
+		if ((x | y | z) < 0 || x >= CACHE_EXTENT || y >= CACHE_EXTENT || z >= CACHE_EXTENT) {
+			return -1;
+		}
+
+		return (y * CACHE_EXTENT + z) * CACHE_EXTENT + x;
 	}
 
 	void release() {
@@ -123,26 +161,32 @@ public class ChunkRenderInfo {
 	 * See also the comments for {@link #brightnessCache}.
 	 */
 	int cachedBrightness(BlockPos pos) {
-		long key = pos.asLong();
-		int result = brightnessCache.get(key);
+		int index = cacheIndex(pos);
 
-		if (result == Integer.MAX_VALUE) {
-			result = WorldRenderer.getLightmapCoordinates(blockView, blockView.getBlockState(pos), pos);
-			brightnessCache.put(key, result);
+		if (index == -1) {
+			return WorldRenderer.getLightmapCoordinates(blockView, blockView.getBlockState(pos), pos);
 		}
 
-		return result;
+		if (brightnessGenerations[index] != generation) {
+			brightnessCache[index] = WorldRenderer.getLightmapCoordinates(blockView, blockView.getBlockState(pos), pos);
+			brightnessGenerations[index] = generation;
+		}
+
+		return brightnessCache[index];
 	}
 
 	float cachedAoLevel(BlockPos pos) {
-		long key = pos.asLong();
-		float result = aoLevelCache.get(key);
+		int index = cacheIndex(pos);
 
-		if (result == Float.MAX_VALUE) {
-			result = AoLuminanceFix.INSTANCE.apply(blockView, pos);
-			aoLevelCache.put(key, result);
+		if (index == -1) {
+			return AoLuminanceFix.INSTANCE.apply(blockView, pos);
 		}
 
-		return result;
+		if (aoLevelGenerations[index] != generation) {
+			aoLevelCache[index] = AoLuminanceFix.INSTANCE.apply(blockView, pos);
+			aoLevelGenerations[index] = generation;
+		}
+
+		return aoLevelCache[index];
 	}
 }
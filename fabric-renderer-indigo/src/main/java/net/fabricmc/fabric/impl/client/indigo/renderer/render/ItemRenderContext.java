@@ -40,12 +40,15 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3f;
+import net.minecraft.util.math.Vector4f;
 
 import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.model.CacheableBakedModel;
 import net.fabricmc.fabric.api.renderer.v1.model.FabricBakedModel;
 import net.fabricmc.fabric.api.renderer.v1.model.ModelHelper;
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
 import net.fabricmc.fabric.impl.client.indigo.renderer.IndigoRenderer;
 import net.fabricmc.fabric.impl.client.indigo.renderer.RenderMaterialImpl;
 import net.fabricmc.fabric.impl.client.indigo.renderer.helper.ColorHelper;
@@ -67,8 +70,10 @@ public class ItemRenderContext extends AbstractRenderContext {
 	}
 
 	private final ItemColors colorMap;
+	private final TintColorCache itemColors = new TintColorCache();
 	private final Random random = new Random();
 	private final Vec3f normalVec = new Vec3f();
+	private final Vector4f posVec = new Vector4f();
 
 	private final Supplier<Random> randomSupplier = () -> {
 		random.setSeed(ITEM_RANDOM_SEED);
@@ -78,6 +83,7 @@ public class ItemRenderContext extends AbstractRenderContext {
 	private final Maker editorQuad = new Maker();
 	private final MeshConsumer meshConsumer = new MeshConsumer();
 	private final FallbackConsumer fallbackConsumer = new FallbackConsumer();
+	private final ModelOutputRecorder recorder = new ModelOutputRecorder();
 
 	private ItemStack itemStack;
 	private Mode transformMode;
@@ -104,6 +110,7 @@ public class ItemRenderContext extends AbstractRenderContext {
 		this.lightmap = lightmap;
 		this.overlay = overlay;
 		this.vanillaHandler = vanillaHandler;
+		itemColors.clear();
 		computeOutputInfo();
 
 		matrixStack.push();
@@ -112,7 +119,9 @@ public class ItemRenderContext extends AbstractRenderContext {
 		matrix = matrixStack.peek().getPositionMatrix();
 		normalMatrix = matrixStack.peek().getNormalMatrix();
 
-		((FabricBakedModel) model).emitItemQuads(itemStack, randomSupplier, this);
+		if (!Indigo.STATIC_MESH_CACHE || !(model instanceof CacheableBakedModel) || !emitCached(model, (CacheableBakedModel) model)) {
+			((FabricBakedModel) model).emitItemQuads(itemStack, randomSupplier, this);
+		}
 
 		matrixStack.pop();
 
@@ -124,6 +133,42 @@ public class ItemRenderContext extends AbstractRenderContext {
 		modelVertexConsumer = null;
 	}
 
+	/**
+	 * Replays the cached output of the model for the current stack, recording it first if needed.
+	 * Colors, lighting and the matrices are applied when replaying, as for any other mesh.
+	 *
+	 * @return false if the output for this stack can't be cached and must be emitted normally
+	 */
+	private boolean emitCached(BakedModel model, CacheableBakedModel cacheable) {
+		final long key = cacheable.getItemQuadsCacheKey(itemStack);
+
+		if (key == CacheableBakedModel.NOT_CACHEABLE) {
+			return false;
+		}
+
+		StaticMeshCache.Entry entry = StaticMeshCache.ITEMS.get(model, null, key);
+
+		if (entry == null) {
+			recorder.begin();
+			((FabricBakedModel) model).emitItemQuads(itemStack, randomSupplier, recorder);
+			entry = recorder.end();
+
+			if (entry == null) {
+				return false;
+			}
+
+			StaticMeshCache.ITEMS.put(model, null, key, entry);
+		}
+
+		meshConsumer.accept(entry.mesh());
+
+		for (BakedModel fallbackModel : entry.fallbackModels()) {
+			fallbackConsumer.accept(fallbackModel);
+		}
+
+		return true;
+	}
+
 	private void computeOutputInfo() {
 		isDefaultTranslucent = true;
 		isTranslucentDirect = true;
@@ -182,7 +227,7 @@ public class ItemRenderContext extends AbstractRenderContext {
 	}
 
 	private void bufferQuad(MutableQuadViewImpl quad, BlendMode blendMode) {
-		AbstractQuadRenderer.bufferQuad(quadVertexConsumer(blendMode), quad, matrix, overlay, normalMatrix, normalVec);
+		AbstractQuadRenderer.bufferQuad(quadVertexConsumer(blendMode), quad, matrix, overlay, normalMatrix, normalVec, posVec);
 	}
 
 	private void colorizeQuad(MutableQuadViewImpl q, int colorIndex) {
@@ -191,7 +236,12 @@ public class ItemRenderContext extends AbstractRenderContext {
 				q.spriteColor(i, 0, ColorHelper.swapRedBlueIfNeeded(q.spriteColor(i, 0)));
 			}
 		} else {
-			final int itemColor = 0xFF000000 | colorMap.getColor(itemStack, colorIndex);
+			int itemColor = itemColors.get(colorIndex);
+
+			if (itemColor == 0) {
+				itemColor = 0xFF000000 | colorMap.getColor(itemStack, colorIndex);
+				itemColors.put(colorIndex, itemColor);
+			}
 
 			for (int i = 0; i < 4; i++) {
 				q.spriteColor(i, 0, ColorHelper.swapRedBlueIfNeeded(ColorHelper.multiplyColor(itemColor, q.spriteColor(i, 0))));
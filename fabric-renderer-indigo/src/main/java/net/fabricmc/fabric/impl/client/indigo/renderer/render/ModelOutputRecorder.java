@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.client.render.model.BakedModel;
+
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MeshBuilderImpl;
+import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MeshImpl;
+
+/**
+ * Render context that records the output of a model instead of buffering it, so that it can be cached
+ * by {@link StaticMeshCache} and replayed for other blocks or item stacks.
+ *
+ * <p>Meshes and emitted quads are baked into a single mesh, with the transforms pushed by the model already applied.
+ * Models sent to the fallback consumer are recorded as is, and replayed through the fallback consumer so that they
+ * are rendered exactly as they would have been without the cache. That is not possible when the model pushed
+ * a transform, in which case the output can't be recorded.
+ */
+class ModelOutputRecorder extends AbstractRenderContext {
+	private final MeshBuilderImpl meshBuilder = new MeshBuilderImpl(this::transform);
+	private final List<BakedModel> fallbackModels = new ArrayList<>();
+	private boolean recordable;
+
+	private final Consumer<Mesh> meshConsumer = mesh -> meshBuilder.append((MeshImpl) mesh);
+
+	private final Consumer<BakedModel> fallbackConsumer = model -> {
+		if (hasTransform()) {
+			recordable = false;
+		} else {
+			fallbackModels.add(model);
+		}
+	};
+
+	void begin() {
+		fallbackModels.clear();
+		recordable = true;
+	}
+
+	/**
+	 * @return the recorded output, or null if the output could not be recorded
+	 */
+	@Nullable
+	StaticMeshCache.Entry end() {
+		// always build to reset the builder
+		final MeshImpl mesh = (MeshImpl) meshBuilder.build();
+		return recordable ? new StaticMeshCache.Entry(mesh, fallbackModels.toArray(new BakedModel[0])) : null;
+	}
+
+	@Override
+	public Consumer<Mesh> meshConsumer() {
+		return meshConsumer;
+	}
+
+	@Override
+	public Consumer<BakedModel> fallbackConsumer() {
+		return fallbackConsumer;
+	}
+
+	@Override
+	public QuadEmitter getEmitter() {
+		return meshBuilder.getEmitter();
+	}
+}
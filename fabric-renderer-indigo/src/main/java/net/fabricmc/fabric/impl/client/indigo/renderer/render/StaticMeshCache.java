@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+
+import net.fabricmc.fabric.api.renderer.v1.model.CacheableBakedModel;
+import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MeshImpl;
+
+/**
+ * Bounded cache of the output of {@link CacheableBakedModel}s, with one instance for terrain, shared by all chunk builder threads,
+ * and one for items. Least recently used entries are evicted first.
+ *
+ * <p>Culling is not part of the key: the cached output includes all faces and is culled when replayed,
+ * like any other mesh. Neither is item color, which is applied when replayed.
+ */
+public final class StaticMeshCache {
+	static final StaticMeshCache TERRAIN = new StaticMeshCache("Static mesh cache", 8192);
+	static final StaticMeshCache ITEMS = new StaticMeshCache("Item mesh cache", 1024);
+
+	private final String name;
+	private final Cache<Key, Entry> cache;
+
+	private StaticMeshCache(String name, int maxEntries) {
+		this.name = name;
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize(maxEntries)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * @param state the block state, or null for items
+	 */
+	@Nullable
+	Entry get(BakedModel model, @Nullable BlockState state, long key) {
+		return cache.getIfPresent(new Key(model, state, key));
+	}
+
+	void put(BakedModel model, @Nullable BlockState state, long key, Entry entry) {
+		cache.put(new Key(model, state, key), entry);
+	}
+
+	private String getDebugString() {
+		final CacheStats stats = cache.stats();
+		return String.format(Locale.ROOT, "[Indigo] %s: %d entries, %d hits, %d misses (%.1f%% hits)",
+				name, cache.size(), stats.hitCount(), stats.missCount(), stats.hitRate() * 100);
+	}
+
+	/**
+	 * Called when models are reloaded, as the caches hold on to the models.
+	 */
+	public static void invalidate() {
+		TERRAIN.cache.invalidateAll();
+		ITEMS.cache.invalidateAll();
+	}
+
+	public static void addDebugText(List<String> lines) {
+		lines.add(TERRAIN.getDebugString());
+		lines.add(ITEMS.getDebugString());
+	}
+
+	private record Key(BakedModel model, @Nullable BlockState state, long key) { }
+
+	/**
+	 * @param mesh the quads that were emitted or sent as meshes
+	 * @param fallbackModels the models that were sent to the fallback consumer
+	 */
+	record Entry(MeshImpl mesh, BakedModel[] fallbackModels) { }
+}
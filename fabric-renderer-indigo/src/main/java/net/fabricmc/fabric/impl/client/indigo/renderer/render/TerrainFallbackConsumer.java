@@ -100,7 +100,7 @@ public abstract class TerrainFallbackConsumer extends AbstractQuadRenderer imple
 
 	private void renderQuad(BakedQuad quad, Direction cullFace, Value defaultMaterial) {
 		final MutableQuadViewImpl editorQuad = this.editorQuad;
-		editorQuad.fromVanilla(quad, defaultMaterial, cullFace);
+		editorQuad.fromVanillaCached(quad, defaultMaterial, cullFace);
 
 		if (!transform.transform(editorQuad)) {
 			return;
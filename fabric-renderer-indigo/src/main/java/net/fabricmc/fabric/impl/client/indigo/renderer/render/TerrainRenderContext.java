@@ -34,8 +34,10 @@ import net.minecraft.util.math.Matrix4f;
 
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.model.CacheableBakedModel;
 import net.fabricmc.fabric.api.renderer.v1.model.FabricBakedModel;
 import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
 import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoCalculator;
 
 /**
@@ -84,14 +86,31 @@ public class TerrainRenderContext extends AbstractRenderContext {
 		}
 	};
 
+	private final ModelOutputRecorder recorder = new ModelOutputRecorder();
+
+	/** Start of the current section rebuild and blocks tessellated so far, only tracked for {@link Indigo#DEBUG_LOG_CHUNK_REBUILDS}. */
+	private long rebuildStartNanos = 0;
+	private int rebuildBlocks = 0;
+
 	public void prepare(ChunkRendererRegion blockView, BuiltChunk chunkRenderer, ChunkData chunkData, BlockBufferBuilderStorage builders) {
 		blockInfo.setBlockView(blockView);
 		chunkInfo.prepare(blockView, chunkRenderer, chunkData, builders);
+
+		if (Indigo.DEBUG_LOG_CHUNK_REBUILDS) {
+			rebuildStartNanos = System.nanoTime();
+			rebuildBlocks = 0;
+		}
 	}
 
 	public void release() {
 		chunkInfo.release();
 		blockInfo.release();
+
+		// Release is also called for empty sections, which were never prepared
+		if (Indigo.DEBUG_LOG_CHUNK_REBUILDS && rebuildStartNanos != 0) {
+			ChunkRebuildTimings.record(System.nanoTime() - rebuildStartNanos, rebuildBlocks);
+			rebuildStartNanos = 0;
+		}
 	}
 
 	/** Called from chunk renderer hook. */
@@ -99,10 +118,17 @@ public class TerrainRenderContext extends AbstractRenderContext {
 		this.matrix = matrixStack.peek().getPositionMatrix();
 		this.normalMatrix = matrixStack.peek().getNormalMatrix();
 
+		if (Indigo.DEBUG_LOG_CHUNK_REBUILDS) {
+			rebuildBlocks++;
+		}
+
 		try {
 			aoCalc.clear();
 			blockInfo.prepareForBlock(blockState, blockPos, model.useAmbientOcclusion());
-			((FabricBakedModel) model).emitBlockQuads(blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, blockInfo.randomSupplier, this);
+
+			if (!Indigo.STATIC_MESH_CACHE || !(model instanceof CacheableBakedModel) || !emitCached(model, (CacheableBakedModel) model)) {
+				((FabricBakedModel) model).emitBlockQuads(blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, blockInfo.randomSupplier, this);
+			}
 		} catch (Throwable throwable) {
 			CrashReport crashReport = CrashReport.create(throwable, "Tessellating block in world - Indigo Renderer");
 			CrashReportSection crashReportSection = crashReport.addElement("Block being tessellated");
@@ -114,6 +140,41 @@ public class TerrainRenderContext extends AbstractRenderContext {
 		return false;
 	}
 
+	/**
+	 * Replays the cached output of the model for the current block, recording it first if needed.
+	 *
+	 * @return false if the output for this block can't be cached and must be emitted normally
+	 */
+	private boolean emitCached(BakedModel model, CacheableBakedModel cacheable) {
+		final long key = cacheable.getBlockQuadsCacheKey(blockInfo.blockState, blockInfo.randomSupplier);
+
+		if (key == CacheableBakedModel.NOT_CACHEABLE) {
+			return false;
+		}
+
+		StaticMeshCache.Entry entry = StaticMeshCache.TERRAIN.get(model, blockInfo.blockState, key);
+
+		if (entry == null) {
+			recorder.begin();
+			((FabricBakedModel) model).emitBlockQuads(blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, blockInfo.randomSupplier, recorder);
+			entry = recorder.end();
+
+			if (entry == null) {
+				return false;
+			}
+
+			StaticMeshCache.TERRAIN.put(model, blockInfo.blockState, key, entry);
+		}
+
+		meshConsumer.accept(entry.mesh());
+
+		for (BakedModel fallbackModel : entry.fallbackModels()) {
+			fallbackConsumer.accept(fallbackModel);
+		}
+
+		return true;
+	}
+
 	@Override
 	public Consumer<Mesh> meshConsumer() {
 		return meshConsumer;
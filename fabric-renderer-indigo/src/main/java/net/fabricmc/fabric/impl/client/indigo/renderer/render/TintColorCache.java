@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import java.util.Arrays;
+
+/**
+ * Colors of the block or stack being rendered by tint index, as all quads with the same tint index get the same color.
+ * Only small tint indices are cached, which covers vanilla and nearly all modded models; others are computed every time.
+ * Entries are invalidated by bumping a stamp rather than by clearing the arrays.
+ */
+final class TintColorCache {
+	private static final int SIZE = 8;
+
+	private final int[] colors = new int[SIZE];
+	private final int[] stamps = new int[SIZE];
+	private int stamp = 1;
+
+	/**
+	 * Forgets all colors, called for each block or stack.
+	 */
+	void clear() {
+		if (++stamp == 0) {
+			Arrays.fill(stamps, 0);
+			stamp = 1;
+		}
+	}
+
+	/**
+	 * @return the color, or 0 if it is not cached. Colors never are 0 because of the alpha.
+	 */
+	int get(int tintIndex) {
+		return tintIndex >= 0 && tintIndex < SIZE && stamps[tintIndex] == stamp ? colors[tintIndex] : 0;
+	}
+
+	void put(int tintIndex, int color) {
+		if (tintIndex >= 0 && tintIndex < SIZE) {
+			colors[tintIndex] = color;
+			stamps[tintIndex] = stamp;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.mixin.client.indigo.renderer;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import net.minecraft.client.render.model.BakedQuad;
+
+import net.fabricmc.fabric.impl.client.indigo.renderer.accessor.AccessBakedQuad;
+
+@Mixin(BakedQuad.class)
+public class MixinBakedQuad implements AccessBakedQuad {
+	/** Written once by whichever chunk builder thread converts the quad first, all threads compute the same value. */
+	@Unique
+	private volatile int[] fabric_encodedQuad;
+
+	@Override
+	public int[] fabric_getEncodedQuad() {
+		return fabric_encodedQuad;
+	}
+
+	@Override
+	public void fabric_setEncodedQuad(int[] encodedQuad) {
+		fabric_encodedQuad = encodedQuad;
+	}
+}
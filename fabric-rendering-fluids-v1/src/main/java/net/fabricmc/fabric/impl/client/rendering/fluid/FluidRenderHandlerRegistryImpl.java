@@ -16,9 +16,13 @@
 
 package net.fabricmc.fabric.impl.client.rendering.fluid;
 
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.LeavesBlock;
@@ -43,10 +47,17 @@ import net.fabricmc.fabric.api.client.render.fluid.v1.FluidRenderHandlerRegistry
 
 public class FluidRenderHandlerRegistryImpl implements FluidRenderHandlerRegistry {
 	private static final int DEFAULT_WATER_COLOR = BuiltinRegistries.BIOME.get(BiomeKeys.OCEAN).getWaterColor();
+	// guarded by this
 	private final Map<Fluid, FluidRenderHandler> handlers = new IdentityHashMap<>();
 	private final Map<Fluid, FluidRenderHandler> modHandlers = new IdentityHashMap<>();
 	private final Map<Block, Boolean> overlayBlocks = new IdentityHashMap<>();
 
+	/**
+	 * Bumped whenever the maps above change. The lookups of each fluid and block are cached in the fluid or block
+	 * itself along with the version they were computed at, for lock-free lookups from the chunk builder threads.
+	 */
+	private volatile int version = 0;
+
 	private FluidRenderer fluidRenderer;
 
 	public FluidRenderHandlerRegistryImpl() {
@@ -54,27 +65,75 @@ public class FluidRenderHandlerRegistryImpl implements FluidRenderHandlerRegistr
 
 	@Override
 	public FluidRenderHandler get(Fluid fluid) {
-		return handlers.get(fluid);
+		return getEntry(fluid).handler();
 	}
 
 	public FluidRenderHandler getOverride(Fluid fluid) {
-		return modHandlers.get(fluid);
+		return getEntry(fluid).modHandler();
 	}
 
 	@Override
-	public void register(Fluid fluid, FluidRenderHandler renderer) {
+	public synchronized void register(Fluid fluid, FluidRenderHandler renderer) {
 		handlers.put(fluid, renderer);
 		modHandlers.put(fluid, renderer);
+		version++;
 	}
 
 	@Override
-	public void setBlockTransparency(Block block, boolean transparent) {
+	public synchronized void setBlockTransparency(Block block, boolean transparent) {
 		overlayBlocks.put(block, transparent);
+		version++;
 	}
 
 	@Override
 	public boolean isBlockTransparent(Block block) {
-		return overlayBlocks.computeIfAbsent(block, k -> k instanceof TransparentBlock || k instanceof LeavesBlock);
+		final BlockEntry entry = ((BlockCache) block).fabric_getFluidTransparency();
+		return entry != null && entry.version() == version ? entry.transparent() : computeTransparency(block);
+	}
+
+	private FluidEntry getEntry(Fluid fluid) {
+		final FluidEntry entry = ((FluidCache) fluid).fabric_getFluidRenderHandlers();
+		return entry != null && entry.version() == version ? entry : computeEntry(fluid);
+	}
+
+	// The version can only change while holding the lock, so the cached entries can't be stamped with a newer version than their contents
+	private synchronized FluidEntry computeEntry(Fluid fluid) {
+		final FluidEntry entry = new FluidEntry(version, handlers.get(fluid), modHandlers.get(fluid));
+		((FluidCache) fluid).fabric_setFluidRenderHandlers(entry);
+		return entry;
+	}
+
+	private synchronized boolean computeTransparency(Block block) {
+		final Boolean override = overlayBlocks.get(block);
+		final boolean transparent = override != null ? override : block instanceof TransparentBlock || block instanceof LeavesBlock;
+		((BlockCache) block).fabric_setFluidTransparency(new BlockEntry(version, transparent));
+		return transparent;
+	}
+
+	/**
+	 * Render handlers of a fluid at a version of the registry. Immutable, so it is safely published through a plain field.
+	 */
+	public record FluidEntry(int version, @Nullable FluidRenderHandler handler, @Nullable FluidRenderHandler modHandler) {
+	}
+
+	/**
+	 * Transparency of a block at a version of the registry.
+	 */
+	public record BlockEntry(int version, boolean transparent) {
+	}
+
+	public interface FluidCache {
+		@Nullable
+		FluidEntry fabric_getFluidRenderHandlers();
+
+		void fabric_setFluidRenderHandlers(FluidEntry entry);
+	}
+
+	public interface BlockCache {
+		@Nullable
+		BlockEntry fabric_getFluidTransparency();
+
+		void fabric_setFluidTransparency(BlockEntry entry);
 	}
 
 	public void onFluidRendererReload(FluidRenderer renderer, Sprite[] waterSprites, Sprite[] lavaSprites, Sprite waterOverlay) {
@@ -109,13 +168,19 @@ public class FluidRenderHandlerRegistryImpl implements FluidRenderHandlerRegistr
 		register(Fluids.FLOWING_WATER, waterHandler);
 		register(Fluids.LAVA, lavaHandler);
 		register(Fluids.FLOWING_LAVA, lavaHandler);
-		handlers.putAll(modHandlers);
+		final List<FluidRenderHandler> allHandlers;
+
+		synchronized (this) {
+			handlers.putAll(modHandlers);
+			version++;
+			allHandlers = new ArrayList<>(handlers.values());
+		}
 
 		SpriteAtlasTexture texture = MinecraftClient.getInstance()
 				.getBakedModelManager()
 				.getAtlas(PlayerScreenHandler.BLOCK_ATLAS_TEXTURE);
 
-		for (FluidRenderHandler handler : handlers.values()) {
+		for (FluidRenderHandler handler : allHandlers) {
 			handler.reloadTextures(texture);
 		}
 	}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.mixin.client.rendering.fluid;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import net.minecraft.fluid.Fluid;
+
+import net.fabricmc.fabric.impl.client.rendering.fluid.FluidRenderHandlerRegistryImpl;
+
+@Mixin(Fluid.class)
+public abstract class FluidMixin implements FluidRenderHandlerRegistryImpl.FluidCache {
+	@Unique
+	private FluidRenderHandlerRegistryImpl.FluidEntry fabric_fluidRenderHandlers;
+
+	@Override
+	public FluidRenderHandlerRegistryImpl.FluidEntry fabric_getFluidRenderHandlers() {
+		return fabric_fluidRenderHandlers;
+	}
+
+	@Override
+	public void fabric_setFluidRenderHandlers(FluidRenderHandlerRegistryImpl.FluidEntry entry) {
+		fabric_fluidRenderHandlers = entry;
+	}
+}
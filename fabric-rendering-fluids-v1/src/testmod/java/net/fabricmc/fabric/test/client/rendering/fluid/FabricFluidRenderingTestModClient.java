@@ -64,5 +64,7 @@ public class FabricFluidRenderingTestModClient implements ClientModInitializer {
 			registry.register(new Identifier("fabric-rendering-fluids-v1-testmod:block/test_fluid_flowing"));
 			registry.register(new Identifier("fabric-rendering-fluids-v1-testmod:block/test_fluid_overlay"));
 		});
+
+		FluidRenderHandlerStressTest.run();
 	}
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.test.client.rendering.fluid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.block.Block;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.BlockRenderView;
+
+import net.fabricmc.fabric.api.client.render.fluid.v1.FluidRenderHandler;
+import net.fabricmc.fabric.api.client.render.fluid.v1.FluidRenderHandlerRegistry;
+
+/**
+ * Looks up the render handlers of every fluid and the transparency of every block on several threads, as chunk
+ * builder threads do while meshing fluids, while the main thread keeps registering handlers and changing transparency.
+ * Readers must never see a handler or transparency older than the last change that completed before their lookup.
+ */
+final class FluidRenderHandlerStressTest {
+	private static final int READERS = 4;
+	private static final int MAX_STEPS = 500;
+
+	private final FluidRenderHandlerRegistry registry = FluidRenderHandlerRegistry.INSTANCE;
+	private final List<Fluid> fluids = new ArrayList<>();
+	private final List<Block> blocks = new ArrayList<>();
+	/** Blocks made transparent one by one, in order. */
+	private final List<Block> changedBlocks = new ArrayList<>();
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+	/** Last step whose changes have completed, or -1 before the first one. */
+	private volatile int completedStep = -1;
+	private volatile boolean done = false;
+
+	private FluidRenderHandlerStressTest() {
+	}
+
+	static void run() {
+		new FluidRenderHandlerStressTest().runTest();
+	}
+
+	private void runTest() {
+		Registry.FLUID.forEach(fluids::add);
+		Registry.BLOCK.forEach(blocks::add);
+
+		for (Block block : blocks) {
+			if (changedBlocks.size() < MAX_STEPS && !registry.isBlockTransparent(block)) {
+				changedBlocks.add(block);
+			}
+		}
+
+		final FluidRenderHandler original = registry.get(TestFluids.CUSTOM);
+		final List<Thread> readers = new ArrayList<>();
+
+		for (int i = 0; i < READERS; i++) {
+			Thread reader = new Thread(this::read, "Fluid render handler reader " + i);
+			reader.setUncaughtExceptionHandler((thread, throwable) -> failure.compareAndSet(null, throwable));
+			reader.start();
+			readers.add(reader);
+		}
+
+		try {
+			for (int step = 0; step < changedBlocks.size() && failure.get() == null; step++) {
+				registry.register(TestFluids.CUSTOM, new StepHandler(step));
+				registry.setBlockTransparency(changedBlocks.get(step), true);
+				completedStep = step;
+			}
+		} finally {
+			done = true;
+
+			for (Thread reader : readers) {
+				try {
+					reader.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException(e);
+				}
+			}
+
+			registry.register(TestFluids.CUSTOM, original);
+
+			for (Block block : changedBlocks) {
+				registry.setBlockTransparency(block, false);
+			}
+		}
+
+		if (failure.get() != null) {
+			throw new AssertionError("Fluid render handler lookups were inconsistent with concurrent changes", failure.get());
+		}
+	}
+
+	private void read() {
+		while (!done && failure.get() == null) {
+			final int step = completedStep;
+
+			for (Fluid fluid : fluids) {
+				registry.get(fluid);
+			}
+
+			for (Block block : blocks) {
+				registry.isBlockTransparent(block);
+			}
+
+			if (step < 0) {
+				continue;
+			}
+
+			if (!(registry.get(TestFluids.CUSTOM) instanceof StepHandler handler) || handler.step < step) {
+				throw new AssertionError("Stale render handler for step " + step + ": " + registry.get(TestFluids.CUSTOM));
+			}
+
+			for (int i = 0; i <= step; i++) {
+				if (!registry.isBlockTransparent(changedBlocks.get(i))) {
+					throw new AssertionError("Stale transparency of " + changedBlocks.get(i) + " made transparent at step " + i + ", read after step " + step);
+				}
+			}
+		}
+	}
+
+	private record StepHandler(int step) implements FluidRenderHandler {
+		@Override
+		public Sprite[] getFluidSprites(@Nullable BlockRenderView view, @Nullable BlockPos pos, FluidState state) {
+			return new Sprite[0];
+		}
+	}
+}
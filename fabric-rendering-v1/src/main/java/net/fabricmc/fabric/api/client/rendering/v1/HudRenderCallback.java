@@ -20,12 +20,21 @@ import net.minecraft.client.util.math.MatrixStack;
 
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
+import net.fabricmc.fabric.impl.client.rendering.RenderEventTimingsImpl;
 
 public interface HudRenderCallback {
-	Event<HudRenderCallback> EVENT = EventFactory.createArrayBacked(HudRenderCallback.class, (listeners) -> (matrixStack, delta) -> {
-		for (HudRenderCallback event : listeners) {
-			event.onHudRender(matrixStack, delta);
-		}
+	Event<HudRenderCallback> EVENT = EventFactory.createArrayBacked(HudRenderCallback.class, (listeners) -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.HUD, listeners);
+
+		return (matrixStack, delta) -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.HUD, timers, i -> listeners[i].onHudRender(matrixStack, delta));
+			} else {
+				for (HudRenderCallback event : listeners) {
+					event.onHudRender(matrixStack, delta);
+				}
+			}
+		};
 	});
 
 	/**
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.api.client.rendering.v1;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.impl.client.rendering.RenderEventTimingsImpl;
+
+/**
+ * Timings of the work done by the listeners of {@link WorldRenderEvents} and {@link HudRenderCallback},
+ * over a rolling window of the last rendered frames.
+ *
+ * <p>The CPU time of each event is measured as a whole and for each registered listener, and summed per frame,
+ * so that frame time can be attributed to the mods that render during it. When the OpenGL implementation supports
+ * timestamp queries, the GPU time of the commands issued by the listeners of each event is measured and summed per frame as well.
+ * GPU results are read back a few frames later to not stall the pipeline.
+ *
+ * <p>Timings are only collected when the {@code fabric.rendering.renderEventTimings} system property is set to {@code true},
+ * and otherwise cost nothing. The size of the window, in frames, is set with the
+ * {@code fabric.rendering.renderEventTimingsWindow} system property, which defaults to 100.
+ * When enabled, a summary is shown on the debug screen.
+ */
+@ApiStatus.Experimental
+@Environment(EnvType.CLIENT)
+public final class RenderEventTimings {
+	private RenderEventTimings() {
+	}
+
+	/**
+	 * @return {@code true} if render event timings are collected, else {@code false}
+	 */
+	public static boolean isEnabled() {
+		return RenderEventTimingsImpl.ENABLED;
+	}
+
+	/**
+	 * @return {@code true} if GPU times are measured, else {@code false}.
+	 * Only known once the first frame has been rendered with timings enabled.
+	 */
+	public static boolean isGpuTimingAvailable() {
+		return RenderEventTimingsImpl.isGpuTimingAvailable();
+	}
+
+	/**
+	 * Gets the CPU time spent per frame in the listeners of an event.
+	 *
+	 * @param phase the event
+	 * @return the timings, or {@code null} if no frame has been measured yet
+	 */
+	@Nullable
+	public static Summary getCpuTimings(Phase phase) {
+		return RenderEventTimingsImpl.getCpuTimings(phase);
+	}
+
+	/**
+	 * Gets the GPU time spent per frame on the commands issued by the listeners of an event.
+	 *
+	 * @param phase the event
+	 * @return the timings, or {@code null} if none have been measured yet or GPU timing is not available
+	 */
+	@Nullable
+	public static Summary getGpuTimings(Phase phase) {
+		return RenderEventTimingsImpl.getGpuTimings(phase);
+	}
+
+	/**
+	 * Gets the CPU time spent per frame by every listener registered to an event.
+	 *
+	 * @param phase the event
+	 * @return the timings of the listeners that have been measured, keyed by {@linkplain net.fabricmc.fabric.api.event.EventFactory#getHandlerName(Object) handler name}
+	 */
+	public static Map<String, Summary> getListenerTimings(Phase phase) {
+		return RenderEventTimingsImpl.getListenerTimings(phase);
+	}
+
+	/**
+	 * The measured events, in the order in which they are invoked in a frame.
+	 */
+	public enum Phase {
+		START,
+		AFTER_SETUP,
+		BEFORE_ENTITIES,
+		AFTER_ENTITIES,
+		BEFORE_BLOCK_OUTLINE,
+		BLOCK_OUTLINE,
+		BEFORE_DEBUG_RENDER,
+		AFTER_TRANSLUCENT,
+		LAST,
+		END,
+		HUD
+	}
+
+	/**
+	 * Timings over the rolling window.
+	 *
+	 * @param samples   the amount of measured frames in the window
+	 * @param p50Nanos  the median time, in nanoseconds
+	 * @param p99Nanos  the 99th percentile time, in nanoseconds
+	 * @param maxNanos  the maximum time, in nanoseconds
+	 */
+	public record Summary(int samples, long p50Nanos, long p99Nanos, long maxNanos) {
+	}
+}
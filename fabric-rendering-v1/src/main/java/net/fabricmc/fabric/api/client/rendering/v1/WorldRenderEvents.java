@@ -27,6 +27,7 @@ import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext.BlockOutlineContext;
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
+import net.fabricmc.fabric.impl.client.rendering.RenderEventTimingsImpl;
 
 /**
  * Mods should use these events to introduce custom rendering during {@link WorldRenderer#render(net.minecraft.client.util.math.MatrixStack, float, long, boolean, net.minecraft.client.render.Camera, net.minecraft.client.render.GameRenderer, net.minecraft.client.render.LightmapTextureManager, net.minecraft.util.math.Matrix4f)}
@@ -46,6 +47,8 @@ import net.fabricmc.fabric.api.event.EventFactory;
  * <li>END</ul>
  *
  * <p>These events are not dependent on the Fabric rendering API or Indigo but work when those are present.
+ *
+ * <p>The time spent in the listeners of these events can be measured, see {@link RenderEventTimings}.
  */
 @Environment(EnvType.CLIENT)
 public final class WorldRenderEvents {
@@ -59,10 +62,18 @@ public final class WorldRenderEvents {
 	 * <p>Use for setup of state that is needed during the world render call that
 	 * does not depend on the view frustum.
 	 */
-	public static final Event<Start> START = EventFactory.createArrayBacked(Start.class, context -> { }, callbacks -> context -> {
-		for (final Start callback : callbacks) {
-			callback.onStart(context);
-		}
+	public static final Event<Start> START = EventFactory.createArrayBacked(Start.class, context -> { }, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.START, callbacks);
+
+		return context -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.START, timers, i -> callbacks[i].onStart(context));
+			} else {
+				for (final Start callback : callbacks) {
+					callback.onStart(context);
+				}
+			}
+		};
 	});
 
 	/**
@@ -71,10 +82,18 @@ public final class WorldRenderEvents {
 	 *
 	 * <p>Use for setup of state that depends on view frustum.
 	 */
-	public static final Event<AfterSetup> AFTER_SETUP = EventFactory.createArrayBacked(AfterSetup.class, context -> { }, callbacks -> context -> {
-		for (final AfterSetup callback : callbacks) {
-			callback.afterSetup(context);
-		}
+	public static final Event<AfterSetup> AFTER_SETUP = EventFactory.createArrayBacked(AfterSetup.class, context -> { }, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.AFTER_SETUP, callbacks);
+
+		return context -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.AFTER_SETUP, timers, i -> callbacks[i].afterSetup(context));
+			} else {
+				for (final AfterSetup callback : callbacks) {
+					callback.afterSetup(context);
+				}
+			}
+		};
 	});
 
 	/**
@@ -97,10 +116,18 @@ public final class WorldRenderEvents {
 	 *
 	 * <p>This event fires before entities and block entities are rendered and may be useful to prepare them.
 	 */
-	public static final Event<BeforeEntities> BEFORE_ENTITIES = EventFactory.createArrayBacked(BeforeEntities.class, context -> { }, callbacks -> context -> {
-		for (final BeforeEntities callback : callbacks) {
-			callback.beforeEntities(context);
-		}
+	public static final Event<BeforeEntities> BEFORE_ENTITIES = EventFactory.createArrayBacked(BeforeEntities.class, context -> { }, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.BEFORE_ENTITIES, callbacks);
+
+		return context -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.BEFORE_ENTITIES, timers, i -> callbacks[i].beforeEntities(context));
+			} else {
+				for (final BeforeEntities callback : callbacks) {
+					callback.beforeEntities(context);
+				}
+			}
+		};
 	});
 
 	/**
@@ -114,10 +141,18 @@ public final class WorldRenderEvents {
 	 * will generally give better (if not perfect) results
 	 * for non-terrain translucency vs. drawing directly later on.
 	 */
-	public static final Event<AfterEntities> AFTER_ENTITIES = EventFactory.createArrayBacked(AfterEntities.class, context -> { }, callbacks -> context -> {
-		for (final AfterEntities callback : callbacks) {
-			callback.afterEntities(context);
-		}
+	public static final Event<AfterEntities> AFTER_ENTITIES = EventFactory.createArrayBacked(AfterEntities.class, context -> { }, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.AFTER_ENTITIES, callbacks);
+
+		return context -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.AFTER_ENTITIES, timers, i -> callbacks[i].afterEntities(context));
+			} else {
+				for (final AfterEntities callback : callbacks) {
+					callback.afterEntities(context);
+				}
+			}
+		};
 	});
 
 	/**
@@ -141,16 +176,26 @@ public final class WorldRenderEvents {
 	 * renders.  Mods that replace the default block outline for specific blocks
 	 * should instead subscribe to {@link #BLOCK_OUTLINE}.
 	 */
-	public static final Event<BeforeBlockOutline> BEFORE_BLOCK_OUTLINE = EventFactory.createArrayBacked(BeforeBlockOutline.class, (context, hit) -> true, callbacks -> (context, hit) -> {
-		boolean shouldRender = true;
+	public static final Event<BeforeBlockOutline> BEFORE_BLOCK_OUTLINE = EventFactory.createArrayBacked(BeforeBlockOutline.class, (context, hit) -> true, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.BEFORE_BLOCK_OUTLINE, callbacks);
+
+		return (context, hit) -> {
+			boolean shouldRender = true;
 
-		for (final BeforeBlockOutline callback : callbacks) {
-			if (!callback.beforeBlockOutline(context, hit)) {
-				shouldRender = false;
+			if (RenderEventTimingsImpl.ENABLED) {
+				final boolean[] result = {true};
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.BEFORE_BLOCK_OUTLINE, timers, i -> result[0] &= callbacks[i].beforeBlockOutline(context, hit));
+				shouldRender = result[0];
+			} else {
+				for (final BeforeBlockOutline callback : callbacks) {
+					if (!callback.beforeBlockOutline(context, hit)) {
+						shouldRender = false;
+					}
+				}
 			}
-		}
 
-		return shouldRender;
+			return shouldRender;
+		};
 	});
 
 	/**
@@ -175,16 +220,26 @@ public final class WorldRenderEvents {
 	 * be accomplished by mixin to the block outline render routine itself, typically
 	 * by targeting {@link WorldRenderer#drawShapeOutline}.
 	 */
-	public static final Event<BlockOutline> BLOCK_OUTLINE = EventFactory.createArrayBacked(BlockOutline.class, (worldRenderContext, blockOutlineContext) -> true, callbacks -> (worldRenderContext, blockOutlineContext) -> {
-		boolean shouldRender = true;
+	public static final Event<BlockOutline> BLOCK_OUTLINE = EventFactory.createArrayBacked(BlockOutline.class, (worldRenderContext, blockOutlineContext) -> true, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.BLOCK_OUTLINE, callbacks);
 
-		for (final BlockOutline callback : callbacks) {
-			if (!callback.onBlockOutline(worldRenderContext, blockOutlineContext)) {
-				shouldRender = false;
+		return (worldRenderContext, blockOutlineContext) -> {
+			boolean shouldRender = true;
+
+			if (RenderEventTimingsImpl.ENABLED) {
+				final boolean[] result = {true};
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.BLOCK_OUTLINE, timers, i -> result[0] &= callbacks[i].onBlockOutline(worldRenderContext, blockOutlineContext));
+				shouldRender = result[0];
+			} else {
+				for (final BlockOutline callback : callbacks) {
+					if (!callback.onBlockOutline(worldRenderContext, blockOutlineContext)) {
+						shouldRender = false;
+					}
+				}
 			}
-		}
 
-		return shouldRender;
+			return shouldRender;
+		};
 	});
 
 	/**
@@ -199,10 +254,18 @@ public final class WorldRenderEvents {
 	 * <p>Use to drawn lines, overlays and other content similar to vanilla
 	 * debug renders.
 	 */
-	public static final Event<DebugRender> BEFORE_DEBUG_RENDER = EventFactory.createArrayBacked(DebugRender.class, context -> { }, callbacks -> context -> {
-		for (final DebugRender callback : callbacks) {
-			callback.beforeDebugRender(context);
-		}
+	public static final Event<DebugRender> BEFORE_DEBUG_RENDER = EventFactory.createArrayBacked(DebugRender.class, context -> { }, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.BEFORE_DEBUG_RENDER, callbacks);
+
+		return context -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.BEFORE_DEBUG_RENDER, timers, i -> callbacks[i].beforeDebugRender(context));
+			} else {
+				for (final DebugRender callback : callbacks) {
+					callback.beforeDebugRender(context);
+				}
+			}
+		};
 	});
 
 	/**
@@ -220,10 +283,18 @@ public final class WorldRenderEvents {
 	 * directly to the frame buffer.  The render state matrix will not include
 	 * camera transformation, so {@link #LAST} may be preferable if that is wanted.
 	 */
-	public static final Event<AfterTranslucent> AFTER_TRANSLUCENT = EventFactory.createArrayBacked(AfterTranslucent.class, context -> { }, callbacks -> context -> {
-		for (final AfterTranslucent callback : callbacks) {
-			callback.afterTranslucent(context);
-		}
+	public static final Event<AfterTranslucent> AFTER_TRANSLUCENT = EventFactory.createArrayBacked(AfterTranslucent.class, context -> { }, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.AFTER_TRANSLUCENT, callbacks);
+
+		return context -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.AFTER_TRANSLUCENT, timers, i -> callbacks[i].afterTranslucent(context));
+			} else {
+				for (final AfterTranslucent callback : callbacks) {
+					callback.afterTranslucent(context);
+				}
+			}
+		};
 	});
 
 	/**
@@ -236,10 +307,18 @@ public final class WorldRenderEvents {
 	 *
 	 * <p>Use to draw content that should appear on top of the world before hand and GUI rendering occur.
 	 */
-	public static final Event<Last> LAST = EventFactory.createArrayBacked(Last.class, context -> { }, callbacks -> context -> {
-		for (final Last callback : callbacks) {
-			callback.onLast(context);
-		}
+	public static final Event<Last> LAST = EventFactory.createArrayBacked(Last.class, context -> { }, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.LAST, callbacks);
+
+		return context -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.LAST, timers, i -> callbacks[i].onLast(context));
+			} else {
+				for (final Last callback : callbacks) {
+					callback.onLast(context);
+				}
+			}
+		};
 	});
 
 	/**
@@ -249,10 +328,18 @@ public final class WorldRenderEvents {
 	 * down transient state in event handlers or as a hook that precedes hand/held item
 	 * and GUI rendering.
 	 */
-	public static final Event<End> END = EventFactory.createArrayBacked(End.class, context -> { }, callbacks -> context -> {
-		for (final End callback : callbacks) {
-			callback.onEnd(context);
-		}
+	public static final Event<End> END = EventFactory.createArrayBacked(End.class, context -> { }, callbacks -> {
+		final RenderEventTimingsImpl.Timer[] timers = RenderEventTimingsImpl.getListenerTimers(RenderEventTimings.Phase.END, callbacks);
+
+		return context -> {
+			if (RenderEventTimingsImpl.ENABLED) {
+				RenderEventTimingsImpl.invoke(RenderEventTimings.Phase.END, timers, i -> callbacks[i].onEnd(context));
+			} else {
+				for (final End callback : callbacks) {
+					callback.onEnd(context);
+				}
+			}
+		};
 	});
 
 	@Environment(EnvType.CLIENT)
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.rendering;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL33;
+import org.lwjgl.opengl.GLCapabilities;
+
+import net.fabricmc.fabric.api.client.rendering.v1.RenderEventTimings;
+import net.fabricmc.fabric.api.event.EventFactory;
+
+/**
+ * Collects the timings of {@link RenderEventTimings}. Everything but the getters runs on the render thread.
+ *
+ * <p>CPU times are summed per frame and pushed to the rolling windows when the frame ends.
+ * Each invocation of an event is also bracketed by a pair of {@code GL_TIMESTAMP} queries, whose results are
+ * polled at the end of the following frames, and summed per frame once all the queries of a frame completed.
+ * Unlike {@code GL_TIME_ELAPSED} queries, timestamps can overlap, so they don't conflict with elapsed time queries
+ * of vanilla or other mods, nor with events invoked from the listeners of another one.
+ * Such nested events are only counted once in the frame totals.
+ */
+public final class RenderEventTimingsImpl {
+	public static final boolean ENABLED = Boolean.getBoolean("fabric.rendering.renderEventTimings");
+	private static final int WINDOW = Math.max(1, Integer.getInteger("fabric.rendering.renderEventTimingsWindow", 100));
+	private static final int DEBUG_LISTENERS = 3;
+
+	private static final RenderEventTimings.Phase[] PHASES = RenderEventTimings.Phase.values();
+	private static final Timer FRAME_TIMER = new Timer("Frame");
+	private static final Timer GPU_FRAME_TIMER = new Timer("GPU frame");
+	private static final Timer[] CPU_TIMERS = new Timer[PHASES.length];
+	private static final Timer[] GPU_TIMERS = new Timer[PHASES.length];
+	private static final Map<RenderEventTimings.Phase, Map<Object, Timer>> LISTENER_TIMERS = new EnumMap<>(RenderEventTimings.Phase.class);
+
+	private static boolean frameMeasured;
+	private static long frameNanos;
+	private static int depth;
+	private static long frameIndex;
+
+	// GPU timing state, initialized on the first frame
+	private static volatile Boolean gpuTimingAvailable;
+	private static final IntArrayFIFOQueue FREE_QUERIES = new IntArrayFIFOQueue();
+	private static final ArrayDeque<PendingQuery> PENDING_QUERIES = new ArrayDeque<>();
+	private static long gpuFrameIndex = -1;
+	private static long gpuFrameNanos;
+
+	static {
+		for (RenderEventTimings.Phase phase : PHASES) {
+			CPU_TIMERS[phase.ordinal()] = new Timer(phase.name());
+			GPU_TIMERS[phase.ordinal()] = new Timer(phase.name());
+			LISTENER_TIMERS.put(phase, new ConcurrentHashMap<>());
+		}
+	}
+
+	private RenderEventTimingsImpl() {
+	}
+
+	/**
+	 * Gets the timers of the listeners of an event, to be resolved once by the invoker factory.
+	 *
+	 * @return the timers, or {@code null} if timings are disabled
+	 */
+	@Nullable
+	public static Timer[] getListenerTimers(RenderEventTimings.Phase phase, Object[] callbacks) {
+		if (!ENABLED) {
+			return null;
+		}
+
+		Map<Object, Timer> timers = LISTENER_TIMERS.get(phase);
+		Timer[] ret = new Timer[callbacks.length];
+
+		for (int i = 0; i < callbacks.length; i++) {
+			ret[i] = timers.computeIfAbsent(callbacks[i], callback -> new Timer(EventFactory.getHandlerName(callback)));
+		}
+
+		return ret;
+	}
+
+	/**
+	 * Runs and measures the listeners of an event.
+	 *
+	 * @param timers the timers of the listeners, from {@link #getListenerTimers}
+	 * @param listeners runs the listener at the given index
+	 */
+	public static void invoke(RenderEventTimings.Phase phase, Timer[] timers, IntConsumer listeners) {
+		final int startQuery = checkGpuTiming() ? timestamp() : -1;
+		final boolean outermost = depth++ == 0;
+		final long phaseStart = System.nanoTime();
+
+		try {
+			for (int i = 0; i < timers.length; i++) {
+				final long start = System.nanoTime();
+
+				try {
+					listeners.accept(i);
+				} finally {
+					timers[i].add(System.nanoTime() - start);
+				}
+			}
+		} finally {
+			// Also when a listener throws, to not leak the start query
+			final long nanos = System.nanoTime() - phaseStart;
+			depth--;
+
+			if (startQuery != -1) {
+				PENDING_QUERIES.add(new PendingQuery(startQuery, timestamp(), phase, frameIndex, outermost));
+			}
+
+			CPU_TIMERS[phase.ordinal()].add(nanos);
+
+			if (outermost) {
+				frameNanos += nanos;
+			}
+
+			frameMeasured = true;
+		}
+	}
+
+	/**
+	 * Called at the end of each frame. Frames in which no event was invoked, such as when no world is loaded, are not counted.
+	 */
+	public static void endFrame() {
+		if (frameMeasured) {
+			FRAME_TIMER.record(frameNanos);
+			frameNanos = 0;
+			frameMeasured = false;
+			frameIndex++;
+
+			for (RenderEventTimings.Phase phase : PHASES) {
+				CPU_TIMERS[phase.ordinal()].endFrame();
+
+				for (Timer timer : LISTENER_TIMERS.get(phase).values()) {
+					timer.endFrame();
+				}
+			}
+		}
+
+		pollQueries();
+	}
+
+	private static int timestamp() {
+		int query = FREE_QUERIES.isEmpty() ? GL15.glGenQueries() : FREE_QUERIES.dequeueInt();
+		GL33.glQueryCounter(query, GL33.GL_TIMESTAMP);
+		return query;
+	}
+
+	/**
+	 * Reads the results of the completed queries. All pending queries were issued in frames that already ended,
+	 * so the results of a frame are complete once a query of a later frame is reached or none are left.
+	 */
+	private static void pollQueries() {
+		// Queries complete in the order their end timestamp was issued, which is after the start one
+		while (!PENDING_QUERIES.isEmpty()) {
+			PendingQuery query = PENDING_QUERIES.peek();
+
+			if (query.frameIndex() != gpuFrameIndex) {
+				endGpuFrame();
+				gpuFrameIndex = query.frameIndex();
+			}
+
+			if (GL15.glGetQueryObjecti(query.endId(), GL15.GL_QUERY_RESULT_AVAILABLE) == 0) {
+				return;
+			}
+
+			PENDING_QUERIES.poll();
+			long elapsed = GL33.glGetQueryObjecti64(query.endId(), GL15.GL_QUERY_RESULT) - GL33.glGetQueryObjecti64(query.startId(), GL15.GL_QUERY_RESULT);
+			GPU_TIMERS[query.phase().ordinal()].add(elapsed);
+
+			if (query.outermost()) {
+				gpuFrameNanos += elapsed;
+			}
+
+			FREE_QUERIES.enqueue(query.startId());
+			FREE_QUERIES.enqueue(query.endId());
+		}
+
+		endGpuFrame();
+		gpuFrameIndex = -1;
+	}
+
+	private static void endGpuFrame() {
+		if (gpuFrameIndex == -1) {
+			return;
+		}
+
+		GPU_FRAME_TIMER.record(gpuFrameNanos);
+		gpuFrameNanos = 0;
+
+		for (Timer timer : GPU_TIMERS) {
+			timer.endFrame();
+		}
+	}
+
+	public static boolean isGpuTimingAvailable() {
+		return Boolean.TRUE.equals(gpuTimingAvailable);
+	}
+
+	private static boolean checkGpuTiming() {
+		if (gpuTimingAvailable == null) {
+			GLCapabilities capabilities = GL.getCapabilities();
+			gpuTimingAvailable = capabilities.OpenGL33 || capabilities.GL_ARB_timer_query;
+		}
+
+		return gpuTimingAvailable;
+	}
+
+	@Nullable
+	public static RenderEventTimings.Summary getCpuTimings(RenderEventTimings.Phase phase) {
+		return CPU_TIMERS[phase.ordinal()].summarize();
+	}
+
+	@Nullable
+	public static RenderEventTimings.Summary getGpuTimings(RenderEventTimings.Phase phase) {
+		return GPU_TIMERS[phase.ordinal()].summarize();
+	}
+
+	public static Map<String, RenderEventTimings.Summary> getListenerTimings(RenderEventTimings.Phase phase) {
+		Map<String, RenderEventTimings.Summary> ret = new LinkedHashMap<>();
+
+		for (Timer timer : LISTENER_TIMERS.get(phase).values()) {
+			RenderEventTimings.Summary summary = timer.summarize();
+
+			if (summary != null) {
+				ret.put(timer.name, summary);
+			}
+		}
+
+		return Collections.unmodifiableMap(ret);
+	}
+
+	public static void addDebugText(List<String> lines) {
+		RenderEventTimings.Summary frame = FRAME_TIMER.summarize();
+
+		if (frame == null) {
+			return;
+		}
+
+		RenderEventTimings.Summary gpuFrame = GPU_FRAME_TIMER.summarize();
+		String gpu = gpuFrame != null ? String.format(Locale.ROOT, "%.2f ms", gpuFrame.p50Nanos() / 1e6) : "n/a";
+
+		lines.add(String.format(Locale.ROOT, "[Fabric] Render events: %.2f ms CPU (max %.2f ms), %s GPU",
+				frame.p50Nanos() / 1e6, frame.maxNanos() / 1e6, gpu));
+
+		List<ListenerSummary> listeners = new ArrayList<>();
+
+		for (RenderEventTimings.Phase phase : PHASES) {
+			for (Map.Entry<String, RenderEventTimings.Summary> entry : getListenerTimings(phase).entrySet()) {
+				listeners.add(new ListenerSummary(phase.name() + " " + entry.getKey(), entry.getValue().p50Nanos()));
+			}
+		}
+
+		listeners.sort(Comparator.comparingLong(ListenerSummary::p50Nanos).reversed());
+
+		for (ListenerSummary listener : listeners.subList(0, Math.min(DEBUG_LISTENERS, listeners.size()))) {
+			lines.add(String.format(Locale.ROOT, "[Fabric]   %.2f ms %s", listener.p50Nanos() / 1e6, listener.name()));
+		}
+	}
+
+	private record ListenerSummary(String name, long p50Nanos) {
+	}
+
+	private record PendingQuery(int startId, int endId, RenderEventTimings.Phase phase, long frameIndex, boolean outermost) {
+	}
+
+	/**
+	 * A ring buffer of the last {@link #WINDOW} samples, and the time accumulated during the current frame.
+	 * Only written from the render thread.
+	 */
+	public static final class Timer {
+		private final String name;
+		private final long[] samples = new long[WINDOW];
+		private long frameNanos;
+		private int next;
+		private volatile int count;
+
+		Timer(String name) {
+			this.name = name;
+		}
+
+		public void add(long nanos) {
+			this.frameNanos += nanos;
+		}
+
+		void endFrame() {
+			record(this.frameNanos);
+			this.frameNanos = 0;
+		}
+
+		void record(long nanos) {
+			this.samples[this.next] = nanos;
+			this.next = (this.next + 1) % this.samples.length;
+
+			if (this.count < this.samples.length) {
+				this.count++;
+			}
+		}
+
+		@Nullable
+		RenderEventTimings.Summary summarize() {
+			int count = this.count;
+
+			if (count == 0) {
+				return null;
+			}
+
+			long[] sorted = Arrays.copyOf(this.samples, count);
+			Arrays.sort(sorted);
+			return new RenderEventTimings.Summary(count, sorted[(count - 1) / 2], sorted[(int) ((count - 1) * 0.99)], sorted[count - 1]);
+		}
+	}
+}
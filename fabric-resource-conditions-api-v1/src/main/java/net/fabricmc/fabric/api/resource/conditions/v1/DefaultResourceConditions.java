@@ -130,6 +130,15 @@ public final class DefaultResourceConditions {
 		ResourceConditions.register(BLOCK_TAGS_POPULATED, object -> ResourceConditionsImpl.tagsPopulatedMatch(object, Registry.BLOCK_KEY));
 		ResourceConditions.register(FLUID_TAGS_POPULATED, object -> ResourceConditionsImpl.tagsPopulatedMatch(object, Registry.FLUID_KEY));
 		ResourceConditions.register(ITEM_TAGS_POPULATED, object -> ResourceConditionsImpl.tagsPopulatedMatch(object, Registry.ITEM_KEY));
+
+		ResourceConditionsImpl.registerCompiler(NOT, ResourceConditionsImpl::compileNot);
+		ResourceConditionsImpl.registerCompiler(AND, object -> ResourceConditionsImpl.compileArray(object, true));
+		ResourceConditionsImpl.registerCompiler(OR, object -> ResourceConditionsImpl.compileArray(object, false));
+		ResourceConditionsImpl.registerCompiler(ALL_MODS_LOADED, object -> ResourceConditionsImpl.compileModsLoaded(object, true));
+		ResourceConditionsImpl.registerCompiler(ANY_MOD_LOADED, object -> ResourceConditionsImpl.compileModsLoaded(object, false));
+		ResourceConditionsImpl.registerCompiler(BLOCK_TAGS_POPULATED, object -> ResourceConditionsImpl.compileTagsPopulated(object, Registry.BLOCK_KEY));
+		ResourceConditionsImpl.registerCompiler(FLUID_TAGS_POPULATED, object -> ResourceConditionsImpl.compileTagsPopulated(object, Registry.FLUID_KEY));
+		ResourceConditionsImpl.registerCompiler(ITEM_TAGS_POPULATED, object -> ResourceConditionsImpl.compileTagsPopulated(object, Registry.ITEM_KEY));
 	}
 
 	private DefaultResourceConditions() {
@@ -120,6 +120,9 @@ public final class ResourceConditions {
 	 * otherwise some conditions might behave in unexpected ways.
 	 *
 	 * <p>If an exception is thrown during condition testing, it will be caught and logged, and false will be returned.
+	 *
+	 * <p>The conditions are compiled once and shared between structurally identical condition arrays,
+	 * and their results are memoized for the duration of a data pack reload.
 	 */
 	public static boolean objectMatchesConditions(JsonObject object) {
 		try {
@@ -128,7 +131,7 @@ public final class ResourceConditions {
 			if (conditions == null) {
 				return true; // no conditions
 			} else {
-				return conditionsMatch(conditions, true);
+				return ResourceConditionsImpl.conditionsMatch(conditions);
 			}
 		} catch (RuntimeException exception) {
 			ResourceConditionsImpl.LOGGER.warn("Skipping object %s. Failed to parse resource conditions".formatted(object), exception);
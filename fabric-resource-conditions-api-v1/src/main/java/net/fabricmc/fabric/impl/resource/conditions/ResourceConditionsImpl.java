@@ -16,15 +16,21 @@
 
 package net.fabricmc.fabric.impl.resource.conditions;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import com.google.common.base.Preconditions;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -40,6 +46,7 @@ import net.minecraft.util.registry.RegistryEntry;
 import net.minecraft.util.registry.RegistryKey;
 
 import net.fabricmc.fabric.api.resource.conditions.v1.ConditionJsonProvider;
+import net.fabricmc.fabric.api.resource.conditions.v1.ResourceConditions;
 import net.fabricmc.loader.api.FabricLoader;
 
 @ApiStatus.Internal
@@ -151,10 +158,15 @@ public class ResourceConditionsImpl {
 		}
 
 		LOADED_TAGS.set(tagMap);
+		// A new reload started, the results of the previous one may not hold anymore.
+		RELOAD_RESULTS.set(new Reference2BooleanOpenHashMap<>());
 	}
 
 	public static void clearTags() {
 		LOADED_TAGS.remove();
+		RELOAD_RESULTS.remove();
+		// Don't keep the conditions of packs that may no longer be loaded
+		COMPILED_CONDITIONS.clear();
 	}
 
 	public static <T> boolean tagsPopulatedMatch(JsonObject object, RegistryKey<? extends Registry<T>> registryKey) {
@@ -189,4 +201,228 @@ public class ResourceConditionsImpl {
 
 		return true;
 	}
+
+	// Compilation
+
+	/**
+	 * A condition array or object compiled from its JSON representation.
+	 * Compiling never fails: invalid conditions compile to a condition that throws the same exception as the uncompiled one,
+	 * at the same point of the evaluation, so that short-circuiting keeps ignoring invalid conditions that are never reached.
+	 */
+	@FunctionalInterface
+	public interface CompiledCondition {
+		boolean test();
+	}
+
+	private record Constant(boolean value) implements CompiledCondition {
+		@Override
+		public boolean test() {
+			return value;
+		}
+	}
+
+	private static final Constant TRUE = new Constant(true);
+	private static final Constant FALSE = new Constant(false);
+
+	/**
+	 * Compiled condition arrays, keyed by a copy of their JSON so that structurally identical arrays share the same instance.
+	 * Only filled during reloads, and cleared at the end of each one, alongside {@link #LOADED_TAGS}.
+	 */
+	private static final Map<JsonArray, CompiledCondition> COMPILED_CONDITIONS = new ConcurrentHashMap<>();
+	private static final Map<Identifier, Function<JsonObject, CompiledCondition>> COMPILERS = new ConcurrentHashMap<>();
+	/**
+	 * Results of the non-constant compiled conditions during the current reload. Set and cleared alongside {@link #LOADED_TAGS}.
+	 */
+	private static final ThreadLocal<Reference2BooleanMap<CompiledCondition>> RELOAD_RESULTS = new ThreadLocal<>();
+
+	/**
+	 * Registers how to compile a condition. The compiler may return {@code null} if it does not recognize the structure of the
+	 * condition object, in which case the registered predicate is used as-is.
+	 */
+	public static void registerCompiler(Identifier id, Function<JsonObject, CompiledCondition> compiler) {
+		COMPILERS.put(id, compiler);
+	}
+
+	/**
+	 * Equivalent to {@link ResourceConditions#conditionsMatch(JsonArray, boolean) conditionsMatch(conditions, true)},
+	 * using the compiled conditions and the results memoized during the current reload, if any.
+	 */
+	public static boolean conditionsMatch(JsonArray conditions) {
+		Reference2BooleanMap<CompiledCondition> results = RELOAD_RESULTS.get();
+
+		if (results == null) {
+			// Outside of a reload, nothing would clear the compiled conditions
+			return ResourceConditions.conditionsMatch(conditions, true);
+		}
+
+		CompiledCondition compiled = COMPILED_CONDITIONS.get(conditions);
+
+		if (compiled == null) {
+			JsonArray copy = conditions.deepCopy();
+			compiled = compileArray(copy, true);
+
+			if (compiled == null) {
+				compiled = () -> ResourceConditions.conditionsMatch(copy, true);
+			}
+
+			CompiledCondition existing = COMPILED_CONDITIONS.putIfAbsent(copy, compiled);
+
+			if (existing != null) {
+				compiled = existing;
+			}
+		}
+
+		if (compiled instanceof Constant constant) {
+			return constant.value();
+		}
+
+		if (results.containsKey(compiled)) {
+			return results.getBoolean(compiled);
+		}
+
+		boolean result = compiled.test();
+		results.put(compiled, result);
+		return result;
+	}
+
+	public static CompiledCondition compileCondition(JsonObject condition) {
+		JsonElement idElement = condition.get(ResourceConditions.CONDITION_ID_KEY);
+		@Nullable
+		Identifier id = idElement != null && idElement.isJsonPrimitive() ? Identifier.tryParse(idElement.getAsString()) : null;
+		@Nullable
+		Predicate<JsonObject> predicate = id != null ? ResourceConditions.get(id) : null;
+
+		if (predicate == null) {
+			// Let the uncompiled path report the error, if this condition is ever evaluated.
+			return () -> ResourceConditions.conditionMatches(condition);
+		}
+
+		Function<JsonObject, CompiledCondition> compiler = COMPILERS.get(id);
+		@Nullable
+		CompiledCondition compiled = compiler != null ? compiler.apply(condition) : null;
+
+		return compiled != null ? compiled : () -> predicate.test(condition);
+	}
+
+	public static @Nullable CompiledCondition compileNot(JsonObject object) {
+		JsonElement value = object.get("value");
+		if (value == null || !value.isJsonObject()) return null;
+
+		CompiledCondition compiled = compileCondition(value.getAsJsonObject());
+
+		if (compiled instanceof Constant constant) {
+			return constant.value() ? FALSE : TRUE;
+		}
+
+		return () -> !compiled.test();
+	}
+
+	public static @Nullable CompiledCondition compileArray(JsonObject object, boolean and) {
+		JsonElement values = object.get("values");
+		if (values == null || !values.isJsonArray()) return null;
+
+		return compileArray(values.getAsJsonArray(), and);
+	}
+
+	/**
+	 * Constants that do not decide the result are dropped, and the conditions following a constant that decides it are
+	 * cut off, like the short-circuiting evaluation would.
+	 */
+	private static @Nullable CompiledCondition compileArray(JsonArray array, boolean and) {
+		List<CompiledCondition> conditions = new ArrayList<>(array.size());
+
+		for (JsonElement element : array) {
+			if (!element.isJsonObject()) return null;
+
+			CompiledCondition compiled = compileCondition(element.getAsJsonObject());
+
+			if (compiled instanceof Constant constant) {
+				if (constant.value() != and) {
+					conditions.add(compiled);
+					break;
+				}
+			} else {
+				conditions.add(compiled);
+			}
+		}
+
+		if (conditions.isEmpty()) {
+			return and ? TRUE : FALSE;
+		} else if (conditions.size() == 1) {
+			return conditions.get(0);
+		}
+
+		CompiledCondition[] compiledConditions = conditions.toArray(new CompiledCondition[0]);
+
+		return () -> {
+			for (CompiledCondition condition : compiledConditions) {
+				if (condition.test() != and) {
+					return !and;
+				}
+			}
+
+			return and;
+		};
+	}
+
+	/**
+	 * The set of loaded mods never changes, so these conditions are folded into constants.
+	 */
+	public static @Nullable CompiledCondition compileModsLoaded(JsonObject object, boolean and) {
+		JsonElement values = object.get("values");
+		if (values == null || !values.isJsonArray()) return null;
+
+		for (JsonElement element : values.getAsJsonArray()) {
+			if (!element.isJsonPrimitive()) return null;
+
+			if (FabricLoader.getInstance().isModLoaded(element.getAsString()) != and) {
+				return and ? FALSE : TRUE;
+			}
+		}
+
+		return and ? TRUE : FALSE;
+	}
+
+	public static <T> @Nullable CompiledCondition compileTagsPopulated(JsonObject object, RegistryKey<? extends Registry<T>> registryKey) {
+		JsonElement values = object.get("values");
+		if (values == null || !values.isJsonArray()) return null;
+
+		JsonArray array = values.getAsJsonArray();
+		Identifier[] tagIds = new Identifier[array.size()];
+
+		for (int i = 0; i < tagIds.length; i++) {
+			JsonElement element = array.get(i);
+			if (!element.isJsonPrimitive()) return null;
+
+			tagIds[i] = Identifier.tryParse(element.getAsString());
+			if (tagIds[i] == null) return null;
+		}
+
+		return () -> {
+			@Nullable
+			Map<RegistryKey<?>, Map<Identifier, Tag<RegistryEntry<?>>>> allTags = LOADED_TAGS.get();
+
+			if (allTags == null) {
+				LOGGER.warn("Can't retrieve deserialized tags. Failing tags_populated resource condition check.");
+				return false;
+			}
+
+			Map<Identifier, Tag<RegistryEntry<?>>> registryTags = allTags.get(registryKey);
+
+			if (registryTags == null) {
+				// No tag for this registry
+				return tagIds.length == 0;
+			}
+
+			for (Identifier id : tagIds) {
+				Tag<RegistryEntry<?>> tag = registryTags.get(id);
+
+				if (tag == null || tag.values().isEmpty()) {
+					return false;
+				}
+			}
+
+			return true;
+		};
+	}
 }
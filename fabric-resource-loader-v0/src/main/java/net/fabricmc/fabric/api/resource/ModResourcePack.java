@@ -16,7 +16,14 @@
 
 package net.fabricmc.fabric.api.resource;
 
+import java.io.IOException;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.resource.ResourcePack;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
 
 import net.fabricmc.loader.api.metadata.ModMetadata;
 
@@ -29,4 +36,21 @@ public interface ModResourcePack extends ResourcePack {
 	 * resource pack.
 	 */
 	ModMetadata getFabricModMetadata();
+
+	/**
+	 * Opens a resource of this pack as a read-only buffer, bypassing the intermediate copies of an input stream.
+	 *
+	 * <p>Resource packs that do not support buffer access return {@code null}, in which case the resource should be
+	 * read through {@link #open(ResourceType, Identifier)} instead.
+	 *
+	 * @param type the type of the resource
+	 * @param id   the identifier of the resource
+	 * @return the buffer, or {@code null} if this pack cannot provide buffer access to this resource
+	 * @throws IOException if the resource does not exist or could not be read
+	 * @see ResourceBuffer#open(net.minecraft.resource.ResourceManager, ResourceType, Identifier)
+	 */
+	@ApiStatus.Experimental
+	default @Nullable ResourceBuffer openBuffer(ResourceType type, Identifier id) throws IOException {
+		return null;
+	}
 }
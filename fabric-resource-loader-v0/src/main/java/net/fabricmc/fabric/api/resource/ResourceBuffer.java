@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.api.resource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+import net.fabricmc.fabric.impl.resource.loader.ResourceBufferImpl;
+
+/**
+ * A read-only view over the contents of a resource, which allows reading it without going through an {@link java.io.InputStream}.
+ *
+ * <p>Depending on where the resource is stored, the buffer is either a memory-mapped file or a pooled direct buffer.
+ * Buffers must be closed once they are no longer needed, which may hand the underlying memory back to a pool:
+ * the buffer must not be accessed after {@link #close()} has been called.
+ *
+ * <pre>{@code
+ * try (ResourceBuffer resource = ResourceBuffer.open(manager, ResourceType.SERVER_DATA, id)) {
+ *     if (resource != null) {
+ *         parse(resource.getBuffer());
+ *     } else {
+ *         // Fall back to manager.getResource(id)
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see ModResourcePack#openBuffer(ResourceType, Identifier)
+ */
+@ApiStatus.Experimental
+public interface ResourceBuffer extends AutoCloseable {
+	/**
+	 * Opens the top-most version of a resource as a buffer, if the pack providing it supports it.
+	 *
+	 * @param manager the resource manager to look the resource up in
+	 * @param type    the type of the resource manager
+	 * @param id      the identifier of the resource
+	 * @return the buffer, or {@code null} if the resource does not exist or the pack providing it does not support buffer access,
+	 * in which case the resource should be read from the resource manager as usual
+	 * @throws IOException if the resource could not be read
+	 */
+	static @Nullable ResourceBuffer open(ResourceManager manager, ResourceType type, Identifier id) throws IOException {
+		return ResourceBufferImpl.open(manager, type, id);
+	}
+
+	/**
+	 * @return a read-only buffer holding the contents of the resource, positioned at its start
+	 */
+	ByteBuffer getBuffer();
+
+	/**
+	 * @return {@code true} if the buffer is backed by a memory-mapped file, else {@code false}
+	 */
+	boolean isMapped();
+
+	/**
+	 * Releases this buffer. Calling this method more than once has no effect.
+	 */
+	@Override
+	void close();
+}
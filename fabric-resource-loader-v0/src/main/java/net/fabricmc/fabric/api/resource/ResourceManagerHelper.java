@@ -16,6 +16,9 @@
 
 package net.fabricmc.fabric.api.resource;
 
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.resource.ResourceType;
 import net.minecraft.util.Identifier;
@@ -45,6 +48,19 @@ public interface ResourceManagerHelper {
 	 */
 	void registerReloadListener(IdentifiableResourceReloadListener listener);
 
+	/**
+	 * Gets the report of the time and memory spent by the reload listeners registered to this helper during the last
+	 * completed reload.
+	 *
+	 * @return the report, or {@code null} if no reload involving a registered listener has completed yet,
+	 * or if this helper does not record reports
+	 */
+	@ApiStatus.Experimental
+	@Nullable
+	default ResourceReloadReport getLastReloadReport() {
+		return null;
+	}
+
 	/**
 	 * Get the ResourceManagerHelper instance for a given resource type.
 	 *
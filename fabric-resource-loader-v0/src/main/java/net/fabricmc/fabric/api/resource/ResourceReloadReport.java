@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.api.resource;
+
+import java.util.List;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+/**
+ * A report of the time and memory spent by the reload listeners registered through {@link ResourceManagerHelper} during a reload.
+ *
+ * <p>Only the tasks a listener runs on the executors it is given are measured,
+ * work done inline on other threads, such as in the continuation of another future, is not accounted for.
+ *
+ * <p>A warning is logged for every listener whose prepare or apply stage takes longer than the threshold set by the
+ * {@code fabric.resource.slowReloadListenerThreshold} system property, in milliseconds, which defaults to 500.
+ *
+ * @see ResourceManagerHelper#getLastReloadReport()
+ */
+@ApiStatus.Experimental
+@ApiStatus.NonExtendable
+public interface ResourceReloadReport {
+	/**
+	 * @return the type of the reloaded resources
+	 */
+	ResourceType getResourceType();
+
+	/**
+	 * @return the entries of every measured listener, in the order the listeners were applied
+	 */
+	List<Entry> getEntries();
+
+	/**
+	 * @param id the identifier of the listener
+	 * @return the entry of the listener, or {@code null} if it was not part of the reload
+	 */
+	@Nullable
+	Entry getEntry(Identifier id);
+
+	/**
+	 * The measurements of a single reload listener.
+	 *
+	 * @param id                    the identifier of the listener, as given by {@link IdentifiableResourceReloadListener#getFabricId()}
+	 * @param prepareNanos          the time spent by the listener on the prepare executor, in nanoseconds
+	 * @param applyNanos            the time spent by the listener on the apply executor, in nanoseconds
+	 * @param prepareAllocatedBytes the bytes allocated by the listener on the prepare executor, or {@code -1} if not supported by the JVM
+	 * @param applyAllocatedBytes   the bytes allocated by the listener on the apply executor, or {@code -1} if not supported by the JVM
+	 */
+	record Entry(Identifier id, long prepareNanos, long applyNanos, long prepareAllocatedBytes, long applyAllocatedBytes) {
+		/**
+		 * @return the total time spent by the listener, in nanoseconds
+		 */
+		public long totalNanos() {
+			return prepareNanos + applyNanos;
+		}
+	}
+}
@@ -25,10 +25,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.Sets;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.resource.Resource;
 import net.minecraft.resource.ResourceImpl;
@@ -36,14 +40,26 @@ import net.minecraft.resource.ResourceNotFoundException;
 import net.minecraft.resource.ResourcePack;
 import net.minecraft.resource.ResourceType;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
 
 import net.fabricmc.fabric.api.resource.ModResourcePack;
+import net.fabricmc.fabric.api.resource.ResourceBuffer;
 import net.fabricmc.fabric.mixin.resource.loader.NamespaceResourceManagerAccessor;
 
 /**
  * Represents a group resource pack, holds multiple resource packs as one.
  */
 public abstract class GroupResourcePack implements ResourcePack {
+	/**
+	 * Whether lookups spanning every pack of a namespace should fan out over the worker executor.
+	 * This only pays off with a large amount of mod resource packs, hence it is opt-in.
+	 */
+	private static final boolean PARALLEL_ENUMERATION = Boolean.getBoolean("fabric.resource.parallelEnumeration");
+	/**
+	 * The minimum amount of packs in a namespace for the parallel enumeration to be used.
+	 */
+	private static final int PARALLEL_ENUMERATION_THRESHOLD = Integer.getInteger("fabric.resource.parallelEnumeration.threshold", 16);
+
 	protected final ResourceType type;
 	protected final List<ModResourcePack> packs;
 	protected final Map<String, List<ModResourcePack>> namespacedPacks = new Object2ObjectOpenHashMap<>();
@@ -74,6 +90,28 @@ public abstract class GroupResourcePack implements ResourcePack {
 				String.format("%s/%s/%s", type.getDirectory(), id.getNamespace(), id.getPath()));
 	}
 
+	/**
+	 * Opens the top-most version of the resource as a buffer.
+	 *
+	 * @see ModResourcePack#openBuffer(ResourceType, Identifier)
+	 */
+	public @Nullable ResourceBuffer openBuffer(ResourceType type, Identifier id) throws IOException {
+		List<ModResourcePack> packs = this.namespacedPacks.get(id.getNamespace());
+
+		if (packs != null) {
+			for (int i = packs.size() - 1; i >= 0; i--) {
+				ModResourcePack pack = packs.get(i);
+
+				if (pack.contains(type, id)) {
+					return pack.openBuffer(type, id);
+				}
+			}
+		}
+
+		throw new ResourceNotFoundException(null,
+				String.format("%s/%s/%s", type.getDirectory(), id.getNamespace(), id.getPath()));
+	}
+
 	@Override
 	public Collection<Identifier> findResources(ResourceType type, String namespace, String prefix, int maxDepth, Predicate<String> pathFilter) {
 		List<ModResourcePack> packs = this.namespacedPacks.get(namespace);
@@ -82,6 +120,10 @@ public abstract class GroupResourcePack implements ResourcePack {
 			return Collections.emptyList();
 		}
 
+		if (shouldEnumerateInParallel(packs)) {
+			return this.findResourcesParallel(packs, type, namespace, prefix, maxDepth, pathFilter);
+		}
+
 		Set<Identifier> resources = new HashSet<>();
 
 		for (int i = packs.size() - 1; i >= 0; i--) {
@@ -94,6 +136,30 @@ public abstract class GroupResourcePack implements ResourcePack {
 		return resources;
 	}
 
+	private Collection<Identifier> findResourcesParallel(List<ModResourcePack> packs, ResourceType type, String namespace, String prefix, int maxDepth, Predicate<String> pathFilter) {
+		List<CompletableFuture<Collection<Identifier>>> futures = new ArrayList<>(packs.size());
+
+		for (ModResourcePack pack : packs) {
+			futures.add(CompletableFuture.supplyAsync(() -> pack.findResources(type, namespace, prefix, maxDepth, pathFilter), Util.getMainWorkerExecutor()));
+		}
+
+		List<Collection<Identifier>> modResources = joinAll(futures);
+		int size = 0;
+
+		for (Collection<Identifier> ids : modResources) {
+			size += ids.size();
+		}
+
+		Set<Identifier> resources = Sets.newHashSetWithExpectedSize(size);
+
+		// Merge in the same order as the serial path does.
+		for (int i = modResources.size() - 1; i >= 0; i--) {
+			resources.addAll(modResources.get(i));
+		}
+
+		return resources;
+	}
+
 	@Override
 	public boolean contains(ResourceType type, Identifier id) {
 		List<ModResourcePack> packs = this.namespacedPacks.get(id.getNamespace());
@@ -127,6 +193,11 @@ public abstract class GroupResourcePack implements ResourcePack {
 
 		Identifier metadataId = NamespaceResourceManagerAccessor.fabric$accessor_getMetadataPath(id);
 
+		if (shouldEnumerateInParallel(packs)) {
+			this.appendResourcesParallel(manager, packs, id, metadataId, resources);
+			return;
+		}
+
 		for (ModResourcePack pack : packs) {
 			if (pack.contains(manager.getType(), id)) {
 				InputStream metadataInputStream = pack.contains(manager.getType(), metadataId) ? manager.fabric$accessor_open(metadataId, pack) : null;
@@ -135,6 +206,56 @@ public abstract class GroupResourcePack implements ResourcePack {
 		}
 	}
 
+	private void appendResourcesParallel(NamespaceResourceManagerAccessor manager, List<ModResourcePack> packs, Identifier id, Identifier metadataId, List<Resource> resources) throws IOException {
+		ResourceType type = manager.getType();
+		List<CompletableFuture<ResourcePresence>> futures = new ArrayList<>(packs.size());
+
+		// Only the lookups are done in parallel, the streams are opened in pack order so that the
+		// resulting list keeps the override order and no stream is leaked if opening one fails.
+		for (ModResourcePack pack : packs) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				if (!pack.contains(type, id)) {
+					return ResourcePresence.ABSENT;
+				}
+
+				return pack.contains(type, metadataId) ? ResourcePresence.WITH_METADATA : ResourcePresence.PRESENT;
+			}, Util.getMainWorkerExecutor()));
+		}
+
+		List<ResourcePresence> presences = joinAll(futures);
+
+		for (int i = 0; i < packs.size(); i++) {
+			ResourcePresence presence = presences.get(i);
+			if (presence == ResourcePresence.ABSENT) continue;
+
+			ModResourcePack pack = packs.get(i);
+			InputStream metadataInputStream = presence == ResourcePresence.WITH_METADATA ? manager.fabric$accessor_open(metadataId, pack) : null;
+			resources.add(new ResourceImpl(pack.getName(), id, manager.fabric$accessor_open(id, pack), metadataInputStream));
+		}
+	}
+
+	private static boolean shouldEnumerateInParallel(List<ModResourcePack> packs) {
+		return PARALLEL_ENUMERATION && packs.size() >= PARALLEL_ENUMERATION_THRESHOLD;
+	}
+
+	private static <T> List<T> joinAll(List<CompletableFuture<T>> futures) {
+		List<T> results = new ArrayList<>(futures.size());
+
+		for (CompletableFuture<T> future : futures) {
+			try {
+				results.add(future.join());
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+
+				throw e;
+			}
+		}
+
+		return results;
+	}
+
 	public String getFullName() {
 		return this.getName() + " (" + this.packs.stream().map(ResourcePack::getName).collect(Collectors.joining(", ")) + ")";
 	}
@@ -143,4 +264,10 @@ public abstract class GroupResourcePack implements ResourcePack {
 	public void close() {
 		this.packs.forEach(ResourcePack::close);
 	}
+
+	private enum ResourcePresence {
+		ABSENT,
+		PRESENT,
+		WITH_METADATA
+	}
 }
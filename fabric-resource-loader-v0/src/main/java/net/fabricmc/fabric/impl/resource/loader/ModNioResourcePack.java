@@ -36,6 +36,7 @@ import java.util.Set;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 
@@ -45,6 +46,7 @@ import net.minecraft.util.Identifier;
 import net.minecraft.util.InvalidIdentifierException;
 
 import net.fabricmc.fabric.api.resource.ModResourcePack;
+import net.fabricmc.fabric.api.resource.ResourceBuffer;
 import net.fabricmc.fabric.api.resource.ResourcePackActivationType;
 import net.fabricmc.loader.api.ModContainer;
 import net.fabricmc.loader.api.metadata.ModMetadata;
@@ -198,6 +200,23 @@ public class ModNioResourcePack extends AbstractFileResourcePack implements ModR
 		throw new FileNotFoundException("\"" + filename + "\" in Fabric mod \"" + modInfo.getId() + "\"");
 	}
 
+	@Override
+	public @Nullable ResourceBuffer openBuffer(ResourceType type, Identifier id) throws IOException {
+		String filename = String.format("%s/%s/%s", type.getDirectory(), id.getNamespace(), id.getPath());
+		Path path = getPath(filename);
+
+		if (path != null && Files.isRegularFile(path)) {
+			return ResourceBufferImpl.open(path);
+		}
+
+		if (ModResourcePackUtil.containsDefault(modInfo, filename)) {
+			// Generated on the fly, only available as a stream.
+			return null;
+		}
+
+		throw new FileNotFoundException("\"" + filename + "\" in Fabric mod \"" + modInfo.getId() + "\"");
+	}
+
 	@Override
 	protected boolean containsFile(String filename) {
 		if (ModResourcePackUtil.containsDefault(modInfo, filename)) {
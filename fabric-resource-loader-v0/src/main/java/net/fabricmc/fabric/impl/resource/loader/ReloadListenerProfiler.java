@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.resource.loader;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+import net.fabricmc.fabric.api.resource.ResourceReloadReport;
+
+/**
+ * Collects the measurements of the {@link TimedResourceReloadListener}s of a single reload into a {@link ResourceReloadReport}.
+ */
+final class ReloadListenerProfiler {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReloadListenerProfiler.class);
+	private static final long SLOW_THRESHOLD_NANOS = Long.getLong("fabric.resource.slowReloadListenerThreshold", 500L) * 1_000_000L;
+	@Nullable
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+			&& bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+
+	private final ResourceType type;
+	private final ResourceReloadReport.Entry[] entries;
+	private final AtomicInteger remaining;
+	private final Consumer<ResourceReloadReport> publisher;
+
+	ReloadListenerProfiler(ResourceType type, int listenerCount, Consumer<ResourceReloadReport> publisher) {
+		this.type = type;
+		this.entries = new ResourceReloadReport.Entry[listenerCount];
+		this.remaining = new AtomicInteger(listenerCount);
+		this.publisher = publisher;
+	}
+
+	void record(int index, ResourceReloadReport.Entry entry) {
+		this.entries[index] = entry;
+
+		if (entry.prepareNanos() > SLOW_THRESHOLD_NANOS || entry.applyNanos() > SLOW_THRESHOLD_NANOS) {
+			LOGGER.warn("Slow reload listener {}: spent {} ms preparing and {} ms applying", entry.id(), toMillis(entry.prepareNanos()), toMillis(entry.applyNanos()));
+		}
+
+		if (this.remaining.decrementAndGet() == 0) {
+			this.publish();
+		}
+	}
+
+	private void publish() {
+		List<ResourceReloadReport.Entry> entries = List.of(this.entries);
+		Report report = new Report(this.type, entries, entries.stream().collect(Collectors.toUnmodifiableMap(ResourceReloadReport.Entry::id, Function.identity())));
+
+		if (LOGGER.isDebugEnabled()) {
+			for (ResourceReloadReport.Entry entry : entries) {
+				LOGGER.debug("Reload listener {}: {} ms preparing ({} bytes allocated), {} ms applying ({} bytes allocated)", entry.id(),
+						toMillis(entry.prepareNanos()), entry.prepareAllocatedBytes(), toMillis(entry.applyNanos()), entry.applyAllocatedBytes());
+			}
+		}
+
+		ResourceReloadReport.Entry slowest = Collections.max(entries, (a, b) -> Long.compare(a.totalNanos(), b.totalNanos()));
+		long totalNanos = entries.stream().mapToLong(ResourceReloadReport.Entry::totalNanos).sum();
+		LOGGER.info("Reloaded {} with {} Fabric reload listeners in {} ms, slowest: {} ({} ms)", this.type, entries.size(), toMillis(totalNanos), slowest.id(), toMillis(slowest.totalNanos()));
+
+		this.publisher.accept(report);
+	}
+
+	/**
+	 * Wraps an executor so that the time and memory its tasks use are added to the given counters.
+	 */
+	static Executor measured(Executor executor, LongAdder nanos, LongAdder allocatedBytes) {
+		return task -> executor.execute(() -> {
+			long startBytes = THREAD_MX_BEAN != null ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0;
+			long start = System.nanoTime();
+
+			try {
+				task.run();
+			} finally {
+				nanos.add(System.nanoTime() - start);
+
+				if (THREAD_MX_BEAN != null) {
+					allocatedBytes.add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startBytes);
+				}
+			}
+		});
+	}
+
+	static long getAllocatedBytes(LongAdder allocatedBytes) {
+		return THREAD_MX_BEAN != null ? allocatedBytes.sum() : -1;
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private record Report(ResourceType type, List<ResourceReloadReport.Entry> entries, Map<Identifier, ResourceReloadReport.Entry> entriesById) implements ResourceReloadReport {
+		@Override
+		public ResourceType getResourceType() {
+			return this.type;
+		}
+
+		@Override
+		public List<Entry> getEntries() {
+			return this.entries;
+		}
+
+		@Override
+		public @Nullable Entry getEntry(Identifier id) {
+			return this.entriesById.get(id);
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.resource.loader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourcePack;
+import net.minecraft.resource.ResourceReload;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+import net.fabricmc.fabric.api.resource.ModResourcePack;
+import net.fabricmc.fabric.api.resource.ResourceBuffer;
+
+public final class ResourceBufferImpl implements ResourceBuffer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ResourceBufferImpl.class);
+	/**
+	 * Files smaller than this are read into a pooled buffer even on the default file system,
+	 * as mapping them costs more than copying them.
+	 */
+	private static final int MIN_MAPPED_SIZE = 64 * 1024;
+	private static final int MIN_POOLED_SHIFT = 12; // 4 KiB
+	private static final int MAX_POOLED_SHIFT = 20; // 1 MiB
+	private static final int POOL_BUCKET_SIZE = 16;
+	@SuppressWarnings("unchecked")
+	private static final ArrayBlockingQueue<ByteBuffer>[] POOL = new ArrayBlockingQueue[MAX_POOLED_SHIFT - MIN_POOLED_SHIFT + 1];
+
+	private static final LongAdder BYTES_READ = new LongAdder();
+	private static final LongAdder BYTES_MAPPED = new LongAdder();
+
+	static {
+		for (int i = 0; i < POOL.length; i++) {
+			POOL[i] = new ArrayBlockingQueue<>(POOL_BUCKET_SIZE);
+		}
+	}
+
+	private final ByteBuffer view;
+	@Nullable
+	private final ByteBuffer pooled;
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private ResourceBufferImpl(ByteBuffer view, @Nullable ByteBuffer pooled) {
+		this.view = view;
+		this.pooled = pooled;
+	}
+
+	@Override
+	public ByteBuffer getBuffer() {
+		return view;
+	}
+
+	@Override
+	public boolean isMapped() {
+		return pooled == null;
+	}
+
+	@Override
+	public void close() {
+		if (pooled != null && closed.compareAndSet(false, true)) {
+			release(pooled);
+		}
+	}
+
+	public static @Nullable ResourceBuffer open(ResourceManager manager, ResourceType type, Identifier id) throws IOException {
+		List<ResourcePack> packs = manager.streamResourcePacks().toList();
+
+		// Later packs override earlier ones.
+		for (int i = packs.size() - 1; i >= 0; i--) {
+			ResourcePack pack = packs.get(i);
+
+			if (pack instanceof GroupResourcePack groupPack) {
+				if (groupPack.contains(type, id)) {
+					return groupPack.openBuffer(type, id);
+				}
+			} else if (pack.contains(type, id)) {
+				return pack instanceof ModResourcePack modPack ? modPack.openBuffer(type, id) : null;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Reads the given file, mapping it if it is on the default file system.
+	 */
+	static ResourceBuffer open(Path path) throws IOException {
+		if (path.getFileSystem() == FileSystems.getDefault()) {
+			try (FileChannel channel = FileChannel.open(path)) {
+				long size = channel.size();
+
+				if (size >= MIN_MAPPED_SIZE) {
+					ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+					BYTES_MAPPED.add(size);
+					return new ResourceBufferImpl(buffer, null);
+				}
+
+				return read(channel, path);
+			}
+		}
+
+		try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+			return read(channel, path);
+		}
+	}
+
+	private static ResourceBuffer read(SeekableByteChannel channel, Path path) throws IOException {
+		long size = channel.size();
+
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Resource " + path + " is too large to be buffered: " + size + " bytes");
+		}
+
+		ByteBuffer buffer = acquire((int) size);
+
+		try {
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				// Keep reading until the buffer is full or the end of the channel is reached.
+			}
+		} catch (IOException e) {
+			release(buffer);
+			throw e;
+		}
+
+		buffer.flip();
+		BYTES_READ.add(buffer.limit());
+		return new ResourceBufferImpl(buffer.asReadOnlyBuffer(), buffer);
+	}
+
+	private static ByteBuffer acquire(int size) {
+		int bucket = getBucket(size);
+
+		if (bucket < 0) {
+			return ByteBuffer.allocateDirect(size);
+		}
+
+		ByteBuffer buffer = POOL[bucket].poll();
+
+		if (buffer == null) {
+			buffer = ByteBuffer.allocateDirect(1 << (bucket + MIN_POOLED_SHIFT));
+		}
+
+		buffer.clear().limit(size);
+		return buffer;
+	}
+
+	private static void release(ByteBuffer buffer) {
+		int capacity = buffer.capacity();
+		int bucket = getBucket(capacity);
+
+		// Only buffers allocated by the pool have an exact power of two capacity within the pooled range.
+		if (bucket >= 0 && capacity == 1 << (bucket + MIN_POOLED_SHIFT)) {
+			POOL[bucket].offer(buffer);
+		}
+	}
+
+	private static int getBucket(int size) {
+		int shift = Math.max(MIN_POOLED_SHIFT, 32 - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1));
+		return shift <= MAX_POOLED_SHIFT ? shift - MIN_POOLED_SHIFT : -1;
+	}
+
+	/**
+	 * @return the total amount of bytes read into pooled buffers and the total amount of bytes mapped, in that order
+	 */
+	public static long[] getStatistics() {
+		return new long[] { BYTES_READ.sum(), BYTES_MAPPED.sum() };
+	}
+
+	/**
+	 * Logs the amount of bytes buffered since the given statistics once the reload completes.
+	 * Reloads running at the same time, such as the client and the integrated server ones, are counted together.
+	 */
+	public static void reportOnCompletion(ResourceReload reload, long[] statisticsAtStart) {
+		reload.whenComplete().thenRun(() -> {
+			long[] statistics = getStatistics();
+			long read = statistics[0] - statisticsAtStart[0];
+			long mapped = statistics[1] - statisticsAtStart[1];
+
+			if (read != 0 || mapped != 0) {
+				LOGGER.info("Resource reload read {} bytes into pooled buffers and mapped {} bytes", read, mapped);
+			}
+		});
+	}
+}
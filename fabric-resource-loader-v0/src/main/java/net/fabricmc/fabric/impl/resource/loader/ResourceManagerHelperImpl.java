@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +27,13 @@ import java.util.Set;
 import java.util.function.Consumer;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntHeapPriorityQueue;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntPriorityQueue;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +46,7 @@ import net.minecraft.util.Pair;
 
 import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.ResourceReloadReport;
 import net.fabricmc.fabric.api.resource.ResourcePackActivationType;
 import net.fabricmc.loader.api.ModContainer;
 
@@ -50,9 +57,16 @@ public class ResourceManagerHelperImpl implements ResourceManagerHelper {
 
 	private final Set<Identifier> addedListenerIds = new HashSet<>();
 	private final Set<IdentifiableResourceReloadListener> addedListeners = new LinkedHashSet<>();
+	private final ResourceType type;
+	@Nullable
+	private volatile ResourceReloadReport lastReloadReport;
+
+	private ResourceManagerHelperImpl(ResourceType type) {
+		this.type = type;
+	}
 
 	public static ResourceManagerHelperImpl get(ResourceType type) {
-		return registryMap.computeIfAbsent(type, (t) -> new ResourceManagerHelperImpl());
+		return registryMap.computeIfAbsent(type, ResourceManagerHelperImpl::new);
 	}
 
 	/**
@@ -126,7 +140,6 @@ public class ResourceManagerHelperImpl implements ResourceManagerHelper {
 		//   trust them 100%. Only code doesn't lie.
 		// - We addReloadListener all custom listeners after vanilla listeners. Same reasons.
 
-		List<IdentifiableResourceReloadListener> listenersToAdd = Lists.newArrayList(addedListeners);
 		Set<Identifier> resolvedIds = new HashSet<>();
 
 		for (ResourceReloader listener : listeners) {
@@ -135,27 +148,85 @@ public class ResourceManagerHelperImpl implements ResourceManagerHelper {
 			}
 		}
 
-		int lastSize = -1;
+		// Build the dependency graph of the custom listeners, with edges going from a listener to its dependents.
+		// Dependencies on vanilla listeners are always satisfied, while missing dependencies never are.
+		List<IdentifiableResourceReloadListener> listenersToAdd = Lists.newArrayList(addedListeners);
+		Object2IntMap<Identifier> indices = new Object2IntOpenHashMap<>(listenersToAdd.size());
+		indices.defaultReturnValue(-1);
+
+		for (int i = 0; i < listenersToAdd.size(); i++) {
+			indices.put(listenersToAdd.get(i).getFabricId(), i);
+		}
+
+		int[] pendingDependencies = new int[listenersToAdd.size()];
+		List<IntList> dependents = new ArrayList<>(listenersToAdd.size());
+		// Always pick the earliest registered listener among the ready ones, so that the order is deterministic
+		// and matches the registration order when there are no dependencies.
+		IntPriorityQueue ready = new IntHeapPriorityQueue(listenersToAdd.size());
 
-		while (listeners.size() != lastSize) {
-			lastSize = listeners.size();
+		for (int i = 0; i < listenersToAdd.size(); i++) {
+			dependents.add(new IntArrayList());
+		}
 
-			Iterator<IdentifiableResourceReloadListener> it = listenersToAdd.iterator();
+		for (int i = 0; i < listenersToAdd.size(); i++) {
+			for (Identifier dependency : listenersToAdd.get(i).getFabricDependencies()) {
+				if (resolvedIds.contains(dependency)) continue;
 
-			while (it.hasNext()) {
-				IdentifiableResourceReloadListener listener = it.next();
+				int dependencyIndex = indices.getInt(dependency);
 
-				if (resolvedIds.containsAll(listener.getFabricDependencies())) {
-					resolvedIds.add(listener.getFabricId());
-					listeners.add(listener);
-					it.remove();
+				if (dependencyIndex >= 0) {
+					dependents.get(dependencyIndex).add(i);
 				}
+
+				pendingDependencies[i]++;
+			}
+
+			if (pendingDependencies[i] == 0) {
+				ready.enqueue(i);
 			}
 		}
 
-		for (IdentifiableResourceReloadListener listener : listenersToAdd) {
-			LOGGER.warn("Could not resolve dependencies for listener: " + listener.getFabricId() + "!");
+		int vanillaCount = listeners.size();
+
+		while (!ready.isEmpty()) {
+			int index = ready.dequeueInt();
+			IdentifiableResourceReloadListener listener = listenersToAdd.get(index);
+			resolvedIds.add(listener.getFabricId());
+			listeners.add(listener);
+
+			IntList listenerDependents = dependents.get(index);
+
+			for (int i = 0; i < listenerDependents.size(); i++) {
+				int dependent = listenerDependents.getInt(i);
+
+				if (--pendingDependencies[dependent] == 0) {
+					ready.enqueue(dependent);
+				}
+			}
 		}
+
+		for (int i = 0; i < listenersToAdd.size(); i++) {
+			if (pendingDependencies[i] > 0) {
+				IdentifiableResourceReloadListener listener = listenersToAdd.get(i);
+				List<Identifier> unresolved = new ArrayList<>(listener.getFabricDependencies());
+				unresolved.removeAll(resolvedIds);
+				LOGGER.warn("Could not resolve dependencies for listener: " + listener.getFabricId() + "! Unresolved: " + unresolved);
+			}
+		}
+
+		// Measure the custom listeners, they are the ones that cannot be accounted for by vanilla profiling.
+		if (listeners.size() > vanillaCount) {
+			ReloadListenerProfiler profiler = new ReloadListenerProfiler(this.type, listeners.size() - vanillaCount, report -> this.lastReloadReport = report);
+
+			for (int i = vanillaCount; i < listeners.size(); i++) {
+				listeners.set(i, new TimedResourceReloadListener((IdentifiableResourceReloadListener) listeners.get(i), profiler, i - vanillaCount));
+			}
+		}
+	}
+
+	@Override
+	public @Nullable ResourceReloadReport getLastReloadReport() {
+		return this.lastReloadReport;
 	}
 
 	@Override
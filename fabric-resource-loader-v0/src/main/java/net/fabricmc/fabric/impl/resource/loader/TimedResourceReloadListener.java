@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.resource.loader;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
+
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.fabricmc.fabric.api.resource.ResourceReloadReport;
+
+/**
+ * Wraps a reload listener to measure the time and memory its tasks use on the prepare and apply executors.
+ */
+public final class TimedResourceReloadListener implements IdentifiableResourceReloadListener {
+	private final IdentifiableResourceReloadListener delegate;
+	private final ReloadListenerProfiler profiler;
+	private final int index;
+
+	TimedResourceReloadListener(IdentifiableResourceReloadListener delegate, ReloadListenerProfiler profiler, int index) {
+		this.delegate = delegate;
+		this.profiler = profiler;
+		this.index = index;
+	}
+
+	@Override
+	public CompletableFuture<Void> reload(Synchronizer synchronizer, ResourceManager manager, Profiler prepareProfiler, Profiler applyProfiler, Executor prepareExecutor, Executor applyExecutor) {
+		LongAdder prepareNanos = new LongAdder();
+		LongAdder prepareBytes = new LongAdder();
+		LongAdder applyNanos = new LongAdder();
+		LongAdder applyBytes = new LongAdder();
+
+		return this.delegate.reload(synchronizer, manager, prepareProfiler, applyProfiler,
+				ReloadListenerProfiler.measured(prepareExecutor, prepareNanos, prepareBytes), ReloadListenerProfiler.measured(applyExecutor, applyNanos, applyBytes))
+				.whenComplete((result, error) -> this.profiler.record(this.index, new ResourceReloadReport.Entry(this.getFabricId(),
+						prepareNanos.sum(), applyNanos.sum(), ReloadListenerProfiler.getAllocatedBytes(prepareBytes), ReloadListenerProfiler.getAllocatedBytes(applyBytes))));
+	}
+
+	@Override
+	public Identifier getFabricId() {
+		return this.delegate.getFabricId();
+	}
+
+	@Override
+	public Collection<Identifier> getFabricDependencies() {
+		return this.delegate.getFabricDependencies();
+	}
+
+	@Override
+	public String getName() {
+		return this.delegate.getName();
+	}
+}
@@ -37,18 +37,29 @@ import net.minecraft.resource.SimpleResourceReload;
 import net.minecraft.util.Unit;
 
 import net.fabricmc.fabric.impl.resource.loader.FabricLifecycledResourceManager;
+import net.fabricmc.fabric.impl.resource.loader.ResourceBufferImpl;
 import net.fabricmc.fabric.impl.resource.loader.ResourceManagerHelperImpl;
 
 @Mixin(SimpleResourceReload.class)
 public class SimpleResourceReloadMixin {
 	@Unique
 	private static final ThreadLocal<ResourceType> fabric_resourceType = new ThreadLocal<>();
+	@Unique
+	private static final ThreadLocal<long[]> fabric_bufferStatistics = new ThreadLocal<>();
 
 	@Inject(method = "start", at = @At("HEAD"))
 	private static void method_40087(ResourceManager resourceManager, List<ResourceReloader> list, Executor executor, Executor executor2, CompletableFuture<Unit> completableFuture, boolean bl, CallbackInfoReturnable<ResourceReload> cir) {
 		if (resourceManager instanceof FabricLifecycledResourceManager flrm) {
 			fabric_resourceType.set(flrm.fabric_getResourceType());
 		}
+
+		fabric_bufferStatistics.set(ResourceBufferImpl.getStatistics());
+	}
+
+	@Inject(method = "start", at = @At("RETURN"))
+	private static void reportBufferStatistics(ResourceManager resourceManager, List<ResourceReloader> list, Executor executor, Executor executor2, CompletableFuture<Unit> completableFuture, boolean bl, CallbackInfoReturnable<ResourceReload> cir) {
+		ResourceBufferImpl.reportOnCompletion(cir.getReturnValue(), fabric_bufferStatistics.get());
+		fabric_bufferStatistics.set(null);
 	}
 
 	@ModifyArg(method = "start", index = 1, at = @At(value = "INVOKE", target = "Lnet/minecraft/resource/SimpleResourceReload;create(Lnet/minecraft/resource/ResourceManager;Ljava/util/List;Ljava/util/concurrent/Executor;Ljava/util/concurrent/Executor;Ljava/util/concurrent/CompletableFuture;)Lnet/minecraft/resource/SimpleResourceReload;"))